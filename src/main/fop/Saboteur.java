@@ -1,10 +1,17 @@
 package fop;
 
+import java.util.Arrays;
+
+import fop.controller.GameController;
+import fop.controller.Pacing;
 import fop.view.MainFrame;
 
 public class Saboteur {
 	
 	public static void main(String[] args) {
+		// Computerspieler ohne Verzögerungen
+		if (Arrays.asList(args).contains("--fast"))
+			GameController.setPacing(Pacing.NONE);
 		new MainFrame().setVisible(true);
 	}
 	
@@ -0,0 +1,313 @@
+package fop.controller;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+import fop.model.Player;
+import fop.model.Player.Role;
+
+/**
+ *
+ * Spielt viele Spiele ausschließlich mit Computerspielern parallel und ohne Benutzeroberfläche.<br>
+ * <br>
+ * Die Spiele werden in einem {@link ForkJoinPool} rekursiv auf alle Threads verteilt.
+ * Jedes Spiel läuft vollständig auf einem Thread in einer eigenen {@link GameSession} ohne Pausen,
+ * deren Hintergrundaufgaben nacheinander in einer Warteschlange abgearbeitet werden.
+ * Jeder Teilauftrag sammelt seine Ergebnisse in eigenen {@link Statistics}, die erst beim Zusammenführen vereinigt werden.<br>
+ * Das Spiel mit dem Index {@code i} nutzt den Startwert {@code seed + i}, sodass eine Simulation unabhängig von der
+ * Anzahl der Threads reproduzierbar ist.
+ *
+ */
+public final class BatchSimulator {
+	
+	/** Anzahl der Spiele, die ein Teilauftrag ohne weitere Aufteilung spielt. */
+	private static final int GAMES_PER_TASK = 16;
+	
+	private final int playerCount;
+	private final ForkJoinPool pool;
+	private final long seed;
+	
+	/**
+	 * Erstellt einen Simulator, der den gemeinsamen {@link ForkJoinPool} nutzt.
+	 * @param playerCount die Anzahl der Computerspieler pro Spiel
+	 * @param seed der Startwert des ersten Spiels
+	 */
+	public BatchSimulator(int playerCount, long seed) {
+		this(playerCount, seed, ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * Erstellt einen Simulator, der den übergebenen {@link ForkJoinPool} nutzt.
+	 * @param playerCount die Anzahl der Computerspieler pro Spiel
+	 * @param seed der Startwert des ersten Spiels
+	 * @param pool der Pool, auf dem die Spiele laufen
+	 */
+	public BatchSimulator(int playerCount, long seed, ForkJoinPool pool) {
+		if (playerCount < 1)
+			throw new IllegalArgumentException("A game needs at least one player, not " + playerCount + ".");
+		this.playerCount = playerCount;
+		this.seed = seed;
+		this.pool = pool;
+	}
+	
+	/**
+	 * Spielt die übergebene Anzahl an Spielen und wartet, bis alle beendet sind.
+	 * @param games die Anzahl der Spiele
+	 * @return die gesammelten Ergebnisse
+	 */
+	public Statistics run(int games) {
+		return pool.invoke(new SimulationTask(0, games));
+	}
+	
+	/**
+	 * Spielt ein einzelnes Spiel auf dem aktuellen Thread und trägt das Ergebnis in die Statistik ein.
+	 * @param game der Index des Spiels
+	 * @param statistics die Statistik, in die das Ergebnis eingetragen wird
+	 */
+	@SuppressWarnings("unchecked")
+	private void playGame(int game, Statistics statistics) {
+		ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+		GameSession session = new GameSession(tasks::add, Pacing.NONE, seed + game);
+		for (int i = 0; i < playerCount; i++)
+			session.addPlayer("Computer " + (i + 1), true);
+		
+		AtomicReference<List<Player>> winners = new AtomicReference<>();
+		session.addPropertyChangeListener(GameSession.GAME_OVER, evt -> winners.set((List<Player>) evt.getNewValue()));
+		
+		// alle Züge nacheinander abarbeiten, statt sie rekursiv auszuführen
+		session.startGame();
+		Runnable task;
+		while ((task = tasks.poll()) != null)
+			task.run();
+		
+		if (winners.get() == null)
+			throw new IllegalStateException("The game stopped before it was over.");
+		statistics.add(session, winners.get());
+	}
+	
+	/**
+	 * Teilt einen Bereich von Spielen rekursiv auf und spielt die Teile parallel.
+	 */
+	private final class SimulationTask extends RecursiveTask<Statistics> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int from;
+		private final int to;
+		
+		private SimulationTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+		
+		@Override
+		protected Statistics compute() {
+			if (to - from > GAMES_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				SimulationTask left = new SimulationTask(from, middle);
+				left.fork();
+				Statistics right = new SimulationTask(middle, to).compute();
+				return left.join().merge(right);
+			}
+			Statistics statistics = new Statistics();
+			for (int i = from; i < to; i++) {
+				try {
+					playGame(i, statistics);
+				} catch (RuntimeException e) {
+					statistics.fail(i, new IllegalStateException(String.format("Game %d with seed %d failed.", i, seed + i), e));
+				}
+			}
+			return statistics;
+		}
+		
+	}
+	
+	
+	////////////////
+	// STATISTICS //
+	////////////////
+	
+	/**
+	 *
+	 * Die gesammelten Ergebnisse mehrerer Spiele.<br>
+	 * Eine Instanz wird nur von einem Thread verändert und anschließend mit {@link #merge(Statistics)} zusammengeführt.
+	 *
+	 */
+	public static final class Statistics {
+		
+		private int games = 0;
+		private int failedGames = 0;
+		
+		/** Die Exception des abgebrochenen Spiels mit dem kleinsten Index und dieser Index. */
+		private RuntimeException firstFailure = null;
+		private int firstFailedGame = -1;
+		
+		private final Map<Role, Integer> wins = new EnumMap<>(Role.class);
+		private final Map<Role, Long> scoreSums = new EnumMap<>(Role.class);
+		private final Map<Role, Integer> roleCounts = new EnumMap<>(Role.class);
+		
+		/** Anzahl der Spiele je Spiellänge in Zügen. */
+		private final TreeMap<Integer, Integer> gameLengths = new TreeMap<>();
+		
+		/** Anzahl der Spieler je Endpunktzahl. */
+		private final TreeMap<Integer, Integer> scores = new TreeMap<>();
+		
+		private Statistics() {}
+		
+		private void add(GameSession session, List<Player> winners) {
+			games++;
+			winners.stream().map(Player::getRole).distinct().forEach(role -> wins.merge(role, 1, Integer::sum));
+			for (Player player : session.getPlayers()) {
+				scoreSums.merge(player.getRole(), (long) player.getScore(), Long::sum);
+				roleCounts.merge(player.getRole(), 1, Integer::sum);
+				scores.merge(player.getScore(), 1, Integer::sum);
+			}
+			gameLengths.merge(session.getTurnCount(), 1, Integer::sum);
+		}
+		
+		private void fail(int game, RuntimeException failure) {
+			failedGames++;
+			if (firstFailure == null || game < firstFailedGame) {
+				firstFailure = failure;
+				firstFailedGame = game;
+			}
+		}
+		
+		private Statistics merge(Statistics other) {
+			games += other.games;
+			failedGames += other.failedGames;
+			if (other.firstFailure != null && (firstFailure == null || other.firstFailedGame < firstFailedGame)) {
+				firstFailure = other.firstFailure;
+				firstFailedGame = other.firstFailedGame;
+			}
+			other.wins.forEach((role, count) -> wins.merge(role, count, Integer::sum));
+			other.scoreSums.forEach((role, sum) -> scoreSums.merge(role, sum, Long::sum));
+			other.roleCounts.forEach((role, count) -> roleCounts.merge(role, count, Integer::sum));
+			other.gameLengths.forEach((length, count) -> gameLengths.merge(length, count, Integer::sum));
+			other.scores.forEach((score, count) -> scores.merge(score, count, Integer::sum));
+			return this;
+		}
+		
+		/**
+		 * Gibt die Anzahl der vollständig gespielten Spiele zurück.
+		 * @return die Anzahl der Spiele
+		 */
+		public int getGames() {
+			return games;
+		}
+		
+		/**
+		 * Gibt die Anzahl der Spiele zurück, die durch eine Exception abgebrochen wurden.
+		 * @return die Anzahl der abgebrochenen Spiele
+		 */
+		public int getFailedGames() {
+			return failedGames;
+		}
+		
+		/**
+		 * Gibt die Exception des ersten abgebrochenen Spiels zurück, unabhängig von der Anzahl der Threads.<br>
+		 * Ihre Ursache ist die Exception, mit der das Spiel abgebrochen wurde.
+		 * @return die Exception des abgebrochenen Spiels mit dem kleinsten Index; oder null, wenn kein Spiel abgebrochen wurde
+		 */
+		public RuntimeException getFirstFailure() {
+			return firstFailure;
+		}
+		
+		/**
+		 * Gibt den Anteil der Spiele zurück, die von der übergebenen Rolle gewonnen wurden.
+		 * @param role die Rolle
+		 * @return die Siegquote zwischen {@code 0} und {@code 1}
+		 */
+		public double getWinRate(Role role) {
+			return games == 0 ? 0 : wins.getOrDefault(role, 0) / (double) games;
+		}
+		
+		/**
+		 * Gibt die durchschnittliche Endpunktzahl der Spieler mit der übergebenen Rolle zurück.
+		 * @param role die Rolle
+		 * @return die durchschnittliche Punktzahl
+		 */
+		public double getAverageScore(Role role) {
+			int count = roleCounts.getOrDefault(role, 0);
+			return count == 0 ? 0 : scoreSums.get(role) / (double) count;
+		}
+		
+		/**
+		 * Gibt die durchschnittliche Anzahl an Zügen pro Spiel zurück.
+		 * @return die durchschnittliche Spiellänge
+		 */
+		public double getAverageGameLength() {
+			long sum = 0;
+			for (Map.Entry<Integer, Integer> entry : gameLengths.entrySet())
+				sum += (long) entry.getKey() * entry.getValue();
+			return games == 0 ? 0 : sum / (double) games;
+		}
+		
+		/**
+		 * Gibt die Verteilung der Spiellängen zurück.
+		 * @return die Anzahl der Spiele je Anzahl an Zügen, aufsteigend sortiert
+		 */
+		public Map<Integer, Integer> getGameLengths() {
+			return new TreeMap<>(gameLengths);
+		}
+		
+		/**
+		 * Gibt die Verteilung der Endpunktzahlen aller Spieler zurück.
+		 * @return die Anzahl der Spieler je Punktzahl, aufsteigend sortiert
+		 */
+		public Map<Integer, Integer> getScores() {
+			return new TreeMap<>(scores);
+		}
+		
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(String.format("Spiele: %d (abgebrochen: %d)%n", games, failedGames));
+			for (Role role : Role.values())
+				sb.append(String.format("%-10s Siegquote %6.2f%%  Punkte %6.2f%n", role, getWinRate(role) * 100, getAverageScore(role)));
+			if (!gameLengths.isEmpty())
+				sb.append(String.format("Züge: min %d, avg %.1f, max %d%n", gameLengths.firstKey(), getAverageGameLength(), gameLengths.lastKey()));
+			if (!scores.isEmpty())
+				sb.append(String.format("Punkte: min %d, max %d, Verteilung %s%n", scores.firstKey(), scores.lastKey(), scores));
+			return sb.toString();
+		}
+		
+	}
+	
+	
+	//////////
+	// MAIN //
+	//////////
+	
+	/**
+	 * Startet eine Simulation auf der Konsole.<br>
+	 * Argumente: {@code [Spiele] [Spieler pro Spiel] [Threads] [Startwert]},
+	 * standardmäßig {@code 1000 5}, alle Prozessorkerne und ein zufälliger Startwert.
+	 * @param args die Argumente
+	 */
+	public static void main(String[] args) {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+		int playerCount = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+		
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		long start = System.nanoTime();
+		Statistics statistics = new BatchSimulator(playerCount, seed, pool).run(games);
+		long millis = (System.nanoTime() - start) / 1_000_000;
+		pool.shutdown();
+		
+		System.out.println("Startwert: " + seed);
+		System.out.print(statistics);
+		System.out.printf("Dauer: %d ms (%.0f Spiele/s)%n", millis, games * 1000.0 / Math.max(1, millis));
+		if (statistics.getFirstFailure() != null)
+			statistics.getFirstFailure().printStackTrace();
+	}
+	
+}
@@ -0,0 +1,68 @@
+package fop.controller;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ *
+ * Verteilt die {@link TurnDelta}s einer Sitzung an ihre Abonnenten.<br>
+ * <br>
+ * Jeder Abonnent wird über seinen eigenen {@link Executor} benachrichtigt, etwa auf dem Event Dispatch Thread
+ * oder in einem eigenen Thread. Das Veröffentlichen übergibt die Benachrichtigungen nur an die Executoren
+ * und blockiert das Spiel daher nicht. Abonnenten können von beliebigen Threads hinzugefügt und entfernt werden.
+ *
+ */
+final class EventBus {
+	
+	private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+	
+	/**
+	 * Fügt einen Abonnenten hinzu.
+	 * @param listener der Abonnent
+	 * @param executor der Executor, auf dem der Abonnent benachrichtigt wird;
+	 *                 ein Executor mit nur einem Thread erhält die Reihenfolge der Deltas
+	 */
+	void subscribe(Consumer<TurnDelta> listener, Executor executor) {
+		subscriptions.add(new Subscription(listener, executor));
+	}
+	
+	/**
+	 * Entfernt einen Abonnenten.
+	 * @param listener der Abonnent
+	 */
+	void unsubscribe(Consumer<TurnDelta> listener) {
+		subscriptions.removeIf(subscription -> subscription.listener == listener);
+	}
+	
+	/**
+	 * Gibt an, ob es Abonnenten gibt.
+	 * @return {@code true} wenn es mindestens einen Abonnenten gibt; sonst {@code false}
+	 */
+	boolean hasSubscribers() {
+		return !subscriptions.isEmpty();
+	}
+	
+	/**
+	 * Übergibt das Delta an die Executoren aller Abonnenten.
+	 * @param delta das zu veröffentlichende Delta
+	 */
+	void publish(TurnDelta delta) {
+		for (Subscription subscription : subscriptions)
+			subscription.executor.execute(() -> subscription.listener.accept(delta));
+	}
+	
+	private static final class Subscription {
+		
+		private final Consumer<TurnDelta> listener;
+		private final Executor executor;
+		
+		private Subscription(Consumer<TurnDelta> listener, Executor executor) {
+			this.listener = listener;
+			this.executor = executor;
+		}
+		
+	}
+	
+}
@@ -0,0 +1,312 @@
+package fop.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import fop.model.Player;
+import fop.model.cards.BrokenToolCard;
+import fop.model.cards.Card;
+import fop.model.cards.FixedToolCard;
+import fop.model.cards.GoalCard;
+import fop.model.cards.PathCard;
+
+/**
+ *
+ * Ein Befehl eines Spielers an eine {@link GameSession}.<br>
+ * <br>
+ * Jede Aktion im Spiel wird als unveränderlicher Befehl beschrieben und mit {@link GameSession#submit(GameCommand)}
+ * in die Warteschlange der Sitzung gestellt. Der Thread, der die Sitzung besitzt, führt die Befehle nacheinander aus;
+ * nur er verändert den Spielzustand. Ein Befehl wird verworfen, wenn er bei seiner Ausführung nicht mehr zum Spielstand passt,
+ * zum Beispiel weil der Spieler inzwischen nicht mehr am Zug ist oder keine Karte mehr ausgewählt hat.
+ *
+ */
+public final class GameCommand {
+	
+	/**
+	 * Die Arten von Befehlen.
+	 */
+	public enum Type {
+		/** Wählt eine Handkarte aus oder hebt die Auswahl auf. */
+		SELECT_CARD,
+		/** Dreht eine Wegekarte auf der Hand. */
+		ROTATE_CARD,
+		/** Beendet den Zug ohne Aktion. */
+		DO_NOTHING,
+		/** Legt die ausgewählte Karte in das Wegelabyrinth. */
+		PLACE_CARD,
+		/** Zerstört eine Karte im Wegelabyrinth mit der ausgewählten Karte. */
+		DESTROY_CARD,
+		/** Repariert ein zerbrochenes Werkzeug mit der ausgewählten Karte. */
+		FIX_TOOL,
+		/** Zerbricht das Werkzeug eines Spielers mit der ausgewählten Karte. */
+		BREAK_TOOL,
+		/** Schaut eine Zielkarte mit der ausgewählten Karte an. */
+		LOOK_AT_GOAL_CARD,
+		/** Wirft die ausgewählte Karte ab. */
+		DISCARD_CARD
+	}
+	
+	private final Type type;
+	private final Player player;
+	private final Player target;
+	private final Card card;
+	private final int x, y;
+	
+	private GameCommand(Type type, Player player, Player target, Card card, int x, int y) {
+		this.type = type;
+		this.player = player;
+		this.target = target;
+		this.card = card;
+		this.x = x;
+		this.y = y;
+	}
+	
+	private GameCommand(Type type, Player player) {
+		this(type, player, null, null, 0, 0);
+	}
+	
+	
+	//////////////
+	// COMMANDS //
+	//////////////
+	
+	/**
+	 * @param player der aktive Spieler
+	 * @param card die auszuwählende Handkarte; oder null, um die Auswahl aufzuheben
+	 * @see GameSession#selectCard(Card)
+	 */
+	public static GameCommand selectCard(Player player, Card card) {
+		return new GameCommand(Type.SELECT_CARD, player, null, card, 0, 0);
+	}
+	
+	/**
+	 * Dreht die übergebene Handkarte. Ist sie ausgewählt, wird die Benutzeroberfläche entsprechend aktualisiert.
+	 * @param player der aktive Spieler
+	 * @param card die zu drehende Wegekarte
+	 */
+	public static GameCommand rotateCard(Player player, PathCard card) {
+		return new GameCommand(Type.ROTATE_CARD, player, null, card, 0, 0);
+	}
+	
+	/**
+	 * @param player der aktive Spieler
+	 * @see GameSession#doNothing()
+	 */
+	public static GameCommand doNothing(Player player) {
+		return new GameCommand(Type.DO_NOTHING, player);
+	}
+	
+	/**
+	 * @param player der aktive Spieler
+	 * @see GameSession#placeSelectedCardAt(Player, int, int)
+	 */
+	public static GameCommand placeSelectedCardAt(Player player, int x, int y) {
+		return new GameCommand(Type.PLACE_CARD, player, null, null, x, y);
+	}
+	
+	/**
+	 * @param player der aktive Spieler
+	 * @see GameSession#destroyCardWithSelectedCardAt(Player, int, int)
+	 */
+	public static GameCommand destroyCardWithSelectedCardAt(Player player, int x, int y) {
+		return new GameCommand(Type.DESTROY_CARD, player, null, null, x, y);
+	}
+	
+	/**
+	 * @param doplayer der aktive Spieler
+	 * @see GameSession#fixBrokenToolCardWithSelectedCard(Player, Player, BrokenToolCard)
+	 */
+	public static GameCommand fixBrokenToolCardWithSelectedCard(Player doplayer, Player recplayer, BrokenToolCard brokenToolCard) {
+		return new GameCommand(Type.FIX_TOOL, doplayer, recplayer, brokenToolCard, 0, 0);
+	}
+	
+	/**
+	 * @param doplayer der aktive Spieler
+	 * @see GameSession#breakToolWithSelectedCard(Player, Player)
+	 */
+	public static GameCommand breakToolWithSelectedCard(Player doplayer, Player recplayer) {
+		return new GameCommand(Type.BREAK_TOOL, doplayer, recplayer, null, 0, 0);
+	}
+	
+	/**
+	 * @param player der aktive Spieler
+	 * @see GameSession#lookAtGoalCardWithSelectedCard(Player, GoalCard)
+	 */
+	public static GameCommand lookAtGoalCardWithSelectedCard(Player player, GoalCard goalCard) {
+		return new GameCommand(Type.LOOK_AT_GOAL_CARD, player, null, goalCard, 0, 0);
+	}
+	
+	/**
+	 * @param player der aktive Spieler
+	 * @see GameSession#discardSelectedCard(Player)
+	 */
+	public static GameCommand discardSelectedCard(Player player) {
+		return new GameCommand(Type.DISCARD_CARD, player);
+	}
+	
+	
+	////////////
+	// GETTER //
+	////////////
+	
+	public Type getType() {
+		return type;
+	}
+	
+	/**
+	 * Gibt den Spieler zurück, der den Befehl gibt.
+	 * @return der Spieler, der bei der Ausführung am Zug sein muss
+	 */
+	public Player getPlayer() {
+		return player;
+	}
+	
+	/**
+	 * Gibt den Spieler zurück, auf den sich der Befehl bezieht, etwa beim Zerbrechen eines Werkzeugs.
+	 * @return der betroffene Spieler; oder null
+	 */
+	public Player getTarget() {
+		return target;
+	}
+	
+	/**
+	 * Gibt die Karte zurück, auf die sich der Befehl bezieht.<br>
+	 * Das ist die auszuwählende oder zu drehende Handkarte, die zu reparierende Karte oder die anzuschauende Zielkarte.
+	 * @return die Karte; oder null
+	 */
+	public Card getCard() {
+		return card;
+	}
+	
+	public int getX() {
+		return x;
+	}
+	
+	public int getY() {
+		return y;
+	}
+	
+	
+	///////////////
+	// EXECUTION //
+	///////////////
+	
+	/**
+	 * Führt den Befehl auf dem Thread aus, der die Sitzung besitzt.<br>
+	 * Passt der Befehl nicht mehr zum Spielstand, geschieht nichts.
+	 * @param session die Sitzung
+	 * @return {@code true} wenn der Befehl ausgeführt wurde; sonst {@code false}
+	 */
+	boolean execute(GameSession session) {
+		Card liveCard = resolveCard(session);
+		if (liveCard != card)
+			return liveCard != null && new GameCommand(type, player, target, liveCard, x, y).execute(session);
+		if (!isApplicable(session)) return false;
+		// erst nach der Prüfung aufzeichnen, damit das Protokoll nur ausgeführte Befehle enthält
+		session.record(this);
+		switch (type) {
+			case SELECT_CARD:
+				session.selectCard(card);
+				break;
+			case ROTATE_CARD:
+				session.rotateCard((PathCard) card);
+				break;
+			case DO_NOTHING:
+				session.doNothing();
+				break;
+			case PLACE_CARD:
+				session.placeSelectedCardAt(player, x, y);
+				break;
+			case DESTROY_CARD:
+				session.destroyCardWithSelectedCardAt(player, x, y);
+				break;
+			case FIX_TOOL:
+				session.fixBrokenToolCardWithSelectedCard(player, target, (BrokenToolCard) card);
+				break;
+			case BREAK_TOOL:
+				session.breakToolWithSelectedCard(player, target);
+				break;
+			case LOOK_AT_GOAL_CARD:
+				session.lookAtGoalCardWithSelectedCard(player, (GoalCard) card);
+				break;
+			case DISCARD_CARD:
+				session.discardSelectedCard(player);
+				break;
+		}
+		return true;
+	}
+	
+	/**
+	 * Gibt an, ob der Befehl den Zug beendet. Nur solche Befehle werden im {@link MoveLog} aufgezeichnet.
+	 * @return {@code false} für Auswahl und Drehung einer Karte; sonst {@code true}
+	 */
+	boolean endsTurn() {
+		return type != Type.SELECT_CARD && type != Type.ROTATE_CARD;
+	}
+	
+	/**
+	 * Ordnet die Karte des Befehls der Karte im Spiel zu.<br>
+	 * Die Benutzeroberfläche gibt Befehle mit den Kopien aus ihrem {@link GameSnapshot}; Handkarten und Zielkarten
+	 * werden deshalb über {@link GameSession#isSnapshotCopy(Card, Card)} auf die Karten im Spiel abgebildet.
+	 * @param session die Sitzung
+	 * @return die Karte im Spiel; oder null, wenn die Kopie nicht mehr zum Spielstand passt
+	 */
+	private Card resolveCard(GameSession session) {
+		if (card == null || player == null) return card;
+		switch (type) {
+			case SELECT_CARD:
+			case ROTATE_CARD:
+				return resolveCard(session, player.getAllHandCards());
+			case LOOK_AT_GOAL_CARD:
+				return resolveCard(session, session.getAllGoalCards().stream().map(session::getCardAt).collect(Collectors.toList()));
+			default:
+				return card;
+		}
+	}
+	
+	private Card resolveCard(GameSession session, List<? extends Card> liveCards) {
+		for (Card liveCard : liveCards)
+			if (liveCard == card || session.isSnapshotCopy(liveCard, card)) return liveCard;
+		return null;
+	}
+	
+	/**
+	 * Prüft, ob der Befehl zum aktuellen Spielstand passt.<br>
+	 * Neben dem aktiven Spieler werden die Art der ausgewählten Karte und die Regeln des jeweiligen Zuges geprüft,
+	 * sodass ein angenommener Befehl den Spielstand nicht verletzen kann.
+	 * @param session die Sitzung
+	 * @return {@code true} wenn der Spieler am Zug ist und der Zug erlaubt ist; sonst {@code false}
+	 */
+	private boolean isApplicable(GameSession session) {
+		if (player == null || player != session.getActivePlayer()) return false;
+		if (type == Type.SELECT_CARD)
+			return true;
+		if (type == Type.ROTATE_CARD)
+			return card != null && card.isPathCard();
+		if (type == Type.DO_NOTHING)
+			return true;
+		Card selected = session.getSelectedCard();
+		if (selected == null) return false;
+		switch (type) {
+			case PLACE_CARD:
+				return selected.isPathCard() && !player.hasBrokenTool() && session.canCardBePlacedAt(x, y, (PathCard) selected);
+			case DESTROY_CARD:
+				return selected.isRockfall() && session.canCardBeDestroyedAt(x, y);
+			case FIX_TOOL:
+				return selected.isFixedTool() && target != null && card != null && card.isBrokenTool()
+						&& target.canBrokenToolBeFixed((BrokenToolCard) card, (FixedToolCard) selected);
+			case BREAK_TOOL:
+				return selected.isBrokenTool() && target != null && target.canToolBeBroken((BrokenToolCard) selected);
+			case LOOK_AT_GOAL_CARD:
+				return selected.isMap() && card != null && card.isGoalCard();
+			default:
+				return true;
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("GameCommand (%s, %s)", type, player != null ? player.getName() : null);
+	}
+	
+}
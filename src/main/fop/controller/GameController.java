@@ -1,48 +1,44 @@
 package fop.controller;
 
 import java.beans.PropertyChangeListener;
-import java.beans.PropertyChangeSupport;
 import java.time.LocalDateTime;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
-import fop.io.ActionCardReader;
-import fop.io.PathCardReader;
 import fop.io.ScoreEntryIO;
-import fop.model.ComputerPlayer;
 import fop.model.Player;
-import fop.model.Player.Role;
 import fop.model.ScoreEntry;
-import fop.model.board.Gameboard;
-import fop.model.board.Position;
 import fop.model.cards.*;
-import fop.model.cards.GoalCard.Type;
-import javax.swing.SwingWorker;
+import javax.swing.SwingUtilities;
 
 /**
- * 
- * Verwaltet das Gameplay.
+ *
+ * Verwaltet das Gameplay.<br>
+ * <br>
+ * Statischer Zugang der Benutzeroberfläche zu genau einer {@link GameSession}.
+ * Jede Sitzung besitzt einen eigenen Thread, der alle ihre Aufgaben nacheinander ausführt und als einziger das Spiel verändert.
+ * Aktionen der Benutzeroberfläche werden als {@link GameCommand} an diesen Thread übergeben,
+ * die Getter lesen aus dem aktuellen {@link GameSnapshot} und sind daher von jedem Thread aus sicher.
+ * Alle angenommenen Züge werden in einem {@link MoveLog} aufgezeichnet,
+ * am Ende jedes Spiels werden die Highscores aller Spieler gespeichert.
  *
  */
 public final class GameController {
 	
 	private GameController() {}
 	
-	// Konstanten
-	private static final String ACTION_CARDS = "/actioncards.xml";
-	private static final String PATH_CARDS = "/pathcards.xml";
-	
-	// Spielvariablen
-	private static final List<Player> players = new ArrayList<>();
-	private static final Stack<Card> drawDeck = new Stack<>();
-	private static final Stack<Card> discardPile = new Stack<>();
-	private static final Gameboard gameboard = new Gameboard();
+	/** Die Verzögerungen der nächsten Sitzungen. */
+	private static Pacing pacing = Pacing.DEFAULT;
 	
-	private static int activePlayer = -1;
-	private static Card selectedCard = null;
+	/** Der Thread, der die aktuelle Sitzung besitzt. */
+	private static ExecutorService owner;
 	
-	private static int MANAGER_WIN = 30;
+	private static GameSession session = createSession();
 	
 	
 	//////////
@@ -50,138 +46,89 @@ public final class GameController {
 	//////////
 	
 	/**
-	 * Setzt das gesamte Spiel zurück.<br>
+	 * Setzt das gesamte Spiel zurück, indem eine neue Sitzung erstellt wird.<br>
+	 * Die alte Sitzung wird angehalten, ausstehende Aufgaben werden verworfen.<br>
 	 * Wichtig: Alle Property Change Listener müssen nach
 	 * dem Aufruf dieser Methode gesetzt werden.
 	 */
 	public static void reset() {
-		players.clear();
-		drawDeck.clear();
-		discardPile.clear();
-		gameboard.clear();
-		activePlayer = -1;
-		selectedCard = null;
-		for (PropertyChangeListener pcl : pcs.getPropertyChangeListeners())
-			pcs.removePropertyChangeListener(pcl);
-	}
-	
-	/**
-	 * Fügt einen neuen Spieler hinzu.
-	 * @param name der Name des Spielers
-	 * @param isComputer gibt an, ob der Spieler ein Computergegner ist
-	 * @see fop.model.Player.Role
-	 */
-	public static void addPlayer(String name, boolean isComputer) {
-		if (isComputer)
-			players.add(new ComputerPlayer(name));
-		else players.add(new Player(name));
+		session = createSession();
 	}
 	
 	/**
-	 * Startet das Spiel.<br>
-	 * Dabei werden die Rollen verteilt, der Kartenstapel erstellt und gemischt und das Wegelabyrinth initialisiert.
+	 * Erstellt eine neue Sitzung mit eigenem Thread, die am Spielende die Highscores speichert.
+	 * @return die neue Sitzung
 	 */
-	public static void startGame() {
-		assignRoles();
-		initCards();
-		dealStartCards();
-		firePropertyChange(SELECT_CARD, null);
-		initMaze();
-		new SwingWorker<Object, Void>() {
-			
-			@Override
-			protected Object doInBackground() throws Exception {
-				TimeUnit.SECONDS.sleep(1);
-				nextPlayer();
-				return null;
-			}
-		}.execute();
+	private static GameSession createSession() {
+		if (owner != null) owner.shutdownNow();
+		owner = createOwner();
+		GameSession session = new GameSession(owner, pacing);
+		session.recordMoves();
+		session.addPropertyChangeListener(GameSession.GAME_OVER, evt -> saveHighscores(session));
+		return session;
 	}
 	
 	/**
-	 * Setzt die Rollen der Spieler.
+	 * Erstellt den Thread einer Sitzung.<br>
+	 * Aufgaben, die nach dem Anhalten eintreffen, etwa verzögerte Züge der Computerspieler, werden stillschweigend verworfen.
+	 * @return ein Executor mit genau einem Thread
 	 */
-	public static void assignRoles() {
-		if (players.isEmpty()) return;
-		int playerCount = players.size();
-		
-		int saboteurCount = playerCount <= 10 ? List.of(0, 1, 1, 1, 2, 2, 3, 3, 3, 4).get(playerCount - 1) : playerCount / 2 - 1;
-		int goldMinerCount = playerCount <= 10 ? List.of(1, 1, 3, 4, 4, 5, 5, 6, 7, 7).get(playerCount - 1) : playerCount - saboteurCount + 1;
-		int thirdRoleCount = playerCount <= 10 ? List.of(0, 1, 1, 1, 2, 2, 3, 3, 3, 4).get(playerCount - 1) : playerCount / 2;
-		
-		List<Role> roles = new LinkedList<>();
-		for (int i = 0; i < saboteurCount; i++)
-			roles.add(Role.SABOTEUR);
-		for (int i = 0; i < goldMinerCount; i++)
-			roles.add(Role.GOLD_MINER);
-		if (Role.values().length > 2) {
-			Role thirdRole = Arrays.stream(Role.values()).filter(r -> r != Role.SABOTEUR && r != Role.GOLD_MINER).findFirst().get();
-			for (int i = 0; i < thirdRoleCount; i++)
-				roles.add(thirdRole);
-		}
-		
-		Collections.shuffle(roles);
-		for (Player player : players)
-			player.assignRole(roles.remove(0));
+	private static ExecutorService createOwner() {
+		return new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), task -> {
+			Thread thread = new Thread(task, "GameSession-Owner");
+			thread.setDaemon(true);
+			return thread;
+		}, new ThreadPoolExecutor.DiscardPolicy());
 	}
 	
 	/**
-	 * Initialisiert und mischt den Nachziehstapel.
+	 * Speichert die Punktzahlen aller Spieler der übergebenen Sitzung gemeinsam in den Highscores.<br>
+	 * Die Datei wird im Hintergrund geschrieben, damit das Ende des Spiels nicht auf den Datenträger wartet.
+	 * @param session die beendete Sitzung
 	 */
-	private static void initCards() {
-		drawDeck.clear();
-		initActionCards(); // Aktionskarten
-		initPathCards();   // Wegekarten
-		Collections.shuffle(drawDeck); // Karten mischen
+	private static void saveHighscores(GameSession session) {
+		LocalDateTime now = LocalDateTime.now();
+		List<ScoreEntry> scoreEntries = new ArrayList<>();
+		for (Player player : session.getPlayers())
+			scoreEntries.add(new ScoreEntry(player.getName(), now, player.getScore()));
+		ScoreEntryIO.addScoreEntriesInBackground(scoreEntries).exceptionally(e -> {
+			System.err.printf("The highscores could not be saved: %s%n", e.getCause() != null ? e.getCause() : e);
+			return null;
+		});
 	}
 	
 	/**
-	 * Fügt dem {@link #drawDeck} alle Aktionskarten hinzu.
+	 * Legt die Verzögerungen aller folgenden Sitzungen fest, zum Beispiel {@link Pacing#NONE} für schnelle Computerspieler.<br>
+	 * Wirkt ab dem nächsten Aufruf von {@link #reset()}.
+	 * @param pacing die Verzögerungen zwischen den Schritten des Spiels
 	 */
-	private static void initActionCards() {
-		// read action cards
-		List<ActionCard> actionCards = ActionCardReader.readFromResource(ACTION_CARDS);
-		
-		// add cards to deck
-		drawDeck.addAll(actionCards);
+	public static void setPacing(Pacing pacing) {
+		GameController.pacing = pacing;
 	}
 	
 	/**
-	 * Fügt dem {@link #drawDeck} alle Wegekarten hinzu.
+	 * Gibt die aktuelle Sitzung zurück.
+	 * @return die aktuelle Sitzung
 	 */
-	private static void initPathCards() {
-		// read path cards
-		List<PathCard> pathCards = PathCardReader.readFromResource(PATH_CARDS);
-		
-		// rotate 50% of cards randomly
-		for (PathCard card : pathCards)
-			if (Math.random() <= 0.5) card.rotate();
-		
-		// add cards to deck
-		drawDeck.addAll(pathCards);
+	public static GameSession getSession() {
+		return session;
 	}
 	
 	/**
-	 * Verteilt die Startkarten an alle Spieler.
+	 * Fügt einen Spieler hinzu. Darf nur vor {@link #startGame()} aufgerufen werden.
+	 * @see GameSession#addPlayer(String, boolean)
 	 */
-	private static void dealStartCards() {
-		int playerCount = players.size();
-		int cardCount = playerCount <= 7 ? playerCount <= 5 ? 6 : 5 : 4;
-		for (int i = 0; i < cardCount; i++)
-			for (Player player : players)
-				drawCard(player);
+	public static void addPlayer(String name, boolean isComputer) {
+		session.addPlayer(name, isComputer);
 	}
 	
 	/**
-	 * Initialisiert das Wegelabyrinth.
+	 * Startet das Spiel auf dem Thread der Sitzung.
+	 * @see GameSession#startGame()
 	 */
-	private static void initMaze() {
-		gameboard.placeCard(0, 0, new StartCard());
-		List<GoalCard> goalCards = new LinkedList<>(List.of(new GoalCard(Type.Gold), new GoalCard(Type.Stone), new GoalCard(Type.Stone)));
-		Collections.shuffle(goalCards);
-		gameboard.placeCard(8, -2, goalCards.remove(0));
-		gameboard.placeCard(8, 0, goalCards.remove(0));
-		gameboard.placeCard(8, 2, goalCards.remove(0));
+	public static void startGame() {
+		GameSession session = GameController.session;
+		session.runInBackground(session::startGame);
 	}
 	
 	
@@ -189,367 +136,145 @@ public final class GameController {
 	// GETTER //
 	////////////
 	
-	public static Player[] getPlayers() {
-		return players.toArray(Player[]::new);
-	}
-	
-	public static Player getActivePlayer() {
-		if (activePlayer == -1) return null;
-		return players.get(activePlayer);
-	}
-	
-	public static Card getSelectedCard() {
-		return selectedCard;
-	}
-	
-	public static Gameboard getGameboard() {
-		return gameboard;
-	}
-	
-	public static Set<Position> getCardPositions() {
-		return gameboard.getBoard().keySet();
-	}
-	
-	public static PathCard getCardAt(Position pos) {
-		return gameboard.getBoard().getOrDefault(pos, null);
-	}
-	
-	public static boolean canCardBePlacedAt(int x, int y, PathCard card) {
-		return gameboard.canCardBePlacedAt(x, y, card);
-	}
-	
-	public static int getDrawDeckSize() {
-		return drawDeck.size();
-	}
-	
-	public static List<Card> getDiscardPile() {
-		return new ArrayList<>(discardPile);
-	}
-	
-	public static List<Position> getAllGoalCards(){
-		return gameboard.findGoalCard();
-	}
-	
-	public static Position getPosGoldCard() {
-		return gameboard.findGoldCard();
-	}
-	
-	
-	//////////////
-	// GAMEPLAY //
-	//////////////
-	
 	/**
-	 * Gibt die Gewinner des Spiels zurück.
-	 * @return die Gewinner; oder null falls das Spiel noch nicht beendet ist
+	 * Gibt alle Spieler zurück. Die Spieler stehen mit dem Start des Spiels fest,
+	 * ihren Zustand liefert {@link GameSnapshot#getPlayerState(Player)}.
+	 * @return die Spieler
 	 */
-	public static List<Player> getWinners() {
-		// Goldkarte wurde aufgedeckt -> Goldsucher gewinnen
-		if (gameboard.isGoldCardVisible())
-			return players.stream().filter(p -> p.getRole() == Player.Role.GOLD_MINER).collect(Collectors.toList());
-		
-		// keine Karten mehr übrig -> Saboteure gewinnen
-		if (drawDeck.isEmpty() && players.stream().allMatch(p -> p.getAllHandCards().isEmpty()))
-			return players.stream().filter(p -> p.getRole() == Player.Role.SABOTEUR).collect(Collectors.toList());
-
-		// 30 Pathcards liegen im Board -> Manager gewinnt
-				if (gameboard.getNumberOfCardsInGameBoardWOStartAndGoal() >= MANAGER_WIN)
-					return players.stream().filter(p -> p.getRole() == Player.Role.MANAGER).collect(Collectors.toList());
-				
-		
-		// noch kein Gewinner
-		return null;
+	public static Player[] getPlayers() {
+		return session.getPlayers();
 	}
 	
 	/**
-	 * Beendet den Zug des aktuellen aktiven Spielers und startet den Zug des nächsten Spielers.<br>
-	 * Dabei zieht der alte aktive Spieler eine Karte nach.
+	 * Gibt den zuletzt veröffentlichten Zustand der aktuellen Sitzung zurück.
+	 * @return der Schnappschuss
+	 * @see GameSession#getSnapshot()
 	 */
-	private static void nextPlayer() {
-		// Spielende prüfen
-		List<Player> winners = getWinners();
-		if (winners != null) {
-			// Siegpunkte verteilen
-			for (Player player : winners) {
-				if(player.getRole() == Player.Role.GOLD_MINER) 
-					player.scorePoints(20);
-				else if (player.getRole() == Player.Role.SABOTEUR)
-					player.scorePoints(30);
-				else player.scorePoints(10);
-			}
-			// Highscores speichern
-			LocalDateTime now = LocalDateTime.now();
-			for (Player player : players) {
-				ScoreEntry scoreEntry = new ScoreEntry(player.getName(), now, player.getScore());
-				ScoreEntryIO.addScoreEntry(scoreEntry);
-			}
-			// Spielende signalisieren
-			selectCard(null);
-			activePlayer = -1;
-			firePropertyChange(NEXT_PLAYER);
-			firePropertyChange(GAME_OVER, winners);
-			return;
-		}
-		
-		// Karte nachziehen
-		drawCard();
-		
-		// der nächste Spieler ist am Zug
-		int nextActivePlayer = activePlayer + 1;
-		if (nextActivePlayer == players.size()) nextActivePlayer = 0;
-		
-		// alle Karten verstecken
-		selectCard(null);
-		activePlayer = -1;
-		firePropertyChange(NEXT_PLAYER);
-		
-		// nächsten Spieler informieren
-		firePropertyChange(INFORM_NEXT_PLAYER, players.get(nextActivePlayer));
-		
-		// Karten des aktiven Spielers zeigen
-		activePlayer = nextActivePlayer;
-		firePropertyChange(NEXT_PLAYER);
-		if (getActivePlayer().getAllHandCards().isEmpty())
-			firePropertyChange(ACTIVE_PLAYER_NO_HAND_CARDS);
+	public static GameSnapshot getSnapshot() {
+		return session.getSnapshot();
 	}
 	
 	/**
-	 * Der übergebene Spieler zieht eine Karte vom Nachziehstapel.
-	 * @param player der Spieler, der eine Karten zieht
-	 * @return die gezogene Karte; oder null
+	 * Gibt die Aufzeichnung der Züge der aktuellen Sitzung zurück, etwa um das Spiel zu archivieren.
+	 * @return die Aufzeichnung; oder null, solange das Spiel nicht gestartet ist
+	 * @see GameReplay
 	 */
-	private static Card drawCard(Player player) {
-		// wenn das Deck leer ist geht das Spiel weiter bis kein Spieler mehr Handkarten hat
-		if (drawDeck.isEmpty()) return null;
-		if (player == null) return null;
-		Card card = drawDeck.pop();
-		player.drawCard(card);
-		return card;
+	public static MoveLog getMoveLog() {
+		return session.getMoveLog();
 	}
 	
-	private static void drawCard() {
-		Card card = drawCard(getActivePlayer());
-		firePropertyChange(DRAW_CARD, card);
+	public static Player getActivePlayer() {
+		return getSnapshot().getActivePlayer();
 	}
 	
-	/**
-	 * Benutzt die ausgewählte Karte des aktiven Spielers.
-	 */
-	private static void playSelectedCard() {
-		getActivePlayer().playCard(selectedCard);
-		selectCard(null);
+	public static Card getSelectedCard() {
+		return getSnapshot().getSelectedCard();
 	}
 	
+	
+	//////////////
+	// GAMEPLAY //
+	//////////////
+	
 	/**
-	 * Wählt eine Karte aus. Dementsprechend wird die Benutzeroberfläche aktualisiert.
-	 * @param card die auszuwählende Karte
+	 * @see GameCommand#selectCard(Player, Card)
 	 */
 	public static void selectCard(Card card) {
-		selectedCard = card;
-		firePropertyChange(SELECT_CARD);
+		session.submit(GameCommand.selectCard(getActivePlayer(), card));
 	}
 	
 	/**
-	 * Gibt dem aktiven Spieler die übergebene Anzahl Punkte.
-	 * @param points die zu vergebenden Punkte
+	 * @see GameCommand#rotateCard(Player, PathCard)
 	 */
-	private static void scorePoints(int points) {
-		getActivePlayer().scorePoints(points);
+	public static void rotateCard(PathCard card) {
+		session.submit(GameCommand.rotateCard(getActivePlayer(), card));
 	}
 	
 	// POSSIBLE ACTIONS //
 	
 	/**
-	 * Beendet den Zug des aktiven Spielers.<br>
-	 * Danach ist der nächste Spieler an der Reihe.
+	 * @see GameCommand#doNothing(Player)
 	 */
 	public static void doNothing() {
-		nextPlayer();
+		session.submit(GameCommand.doNothing(getActivePlayer()));
 	}
 	
-
 	/**
-	 * Setzt die ausgewählte Karte in das Wegelabyrinth.<br>
-	 * Danach ist der nächste Spieler an der Reihe.
-	 * @param x x-Position im Wegelabyrinth
-	 * @param y y-Position im Wegelabyrinth
-	 * @see Gameboard#placeCard(int, int, PathCard)
+	 * @see GameCommand#placeSelectedCardAt(Player, int, int)
 	 */
 	public static void placeSelectedCardAt(Player player, int x, int y) {
-		gameboard.placeCard(x, y, (PathCard) selectedCard);
-		playSelectedCard();
-		if(player.getRole() == Player.Role.SABOTEUR)
-			scorePoints(gameboard.getNumberOfAdjacentCards(x, y) + 1);
-		else if(player.getRole() == Player.Role.GOLD_MINER)
-			scorePoints((int)Math.ceil(gameboard.distanceFromStartcard(x, y)/2.0));
-		else scorePoints((int)Math.ceil(gameboard.getNumberOfCardsInGameBoardWOStartAndGoal()/2.0));
-		nextPlayer();
+		session.submit(GameCommand.placeSelectedCardAt(player, x, y));
 	}
 	
 	/**
-	 * Zerstört die Wegekarte an der übergebenen Position mit der ausgewählten Karte.<br>
-	 * Legt die zerstörte und die ausgewählte Karte auf den Ablagestapel.<br>
-	 * Danach ist der nächste Spieler an der Reihe.
-	 * @param x x-Position im Wegelabyrinth
-	 * @param y y-Position im Wegelabyrinth
-	 * @see Gameboard#removeCard(int, int)
+	 * @see GameCommand#destroyCardWithSelectedCardAt(Player, int, int)
 	 */
 	public static void destroyCardWithSelectedCardAt(Player player, int x, int y) {
-		PathCard oldCard = gameboard.removeCard(x, y);
-		discardPile.add(oldCard);
-		discardPile.add(selectedCard);
-		playSelectedCard();
-		if(player.getRole() == Player.Role.GOLD_MINER)
-			scorePoints(0-gameboard.getNumberOfAdjacentCards(x, y));
-		else if(player.getRole() == Player.Role.SABOTEUR)
-			scorePoints(gameboard.getNumberOfAdjacentCards(x, y) + 1);
-		else scorePoints(2);
-		nextPlayer();
+		session.submit(GameCommand.destroyCardWithSelectedCardAt(player, x, y));
 	}
 	
 	/**
-	 * Repariert die Karte mit dem zerbrochenen Werkzeug mit der ausgewählten Karte.<br>
-	 * Legt die Karte mit dem zerbrochenen Werkzeug und die ausgewählte Karte auf den Ablagestapel.<br>
-	 * Danach ist der nächste Spieler an der Reihe.
-	 * @param player der Spieler, dessen Werkzeug repariert wird
-	 * @param brokenToolCard die Karte, die repariert wird
-	 * @see Player#fixBrokenTool(BrokenToolCard, FixedToolCard)
+	 * @see GameCommand#fixBrokenToolCardWithSelectedCard(Player, Player, BrokenToolCard)
 	 */
 	public static void fixBrokenToolCardWithSelectedCard(Player doplayer, Player recplayer, BrokenToolCard brokenToolCard) {
-		recplayer.fixBrokenTool(brokenToolCard, (FixedToolCard) selectedCard);
-		discardPile.add(brokenToolCard);
-		discardPile.add(selectedCard);
-		playSelectedCard();
-		if(doplayer.getRole() == Player.Role.GOLD_MINER)
-			scorePoints(3); 
-		else if(doplayer.getRole() == Player.Role.SABOTEUR) {
-			if(recplayer.getRole() == Player.Role.SABOTEUR)
-				scorePoints(2);
-			else scorePoints(-2);
-		} else scorePoints(3);
-		
-		nextPlayer();
+		session.submit(GameCommand.fixBrokenToolCardWithSelectedCard(doplayer, recplayer, brokenToolCard));
 	}
 	
 	/**
-	 * Zerstört das Werkzeug eines Spielers mit der ausgewählten Karte.<br>
-	 * Danach ist der nächste Spieler an der Reihe.
-	 * @param player der Spieler, dessen Werkzeug zerstört wird
+	 * @see GameCommand#breakToolWithSelectedCard(Player, Player)
 	 */
 	public static void breakToolWithSelectedCard(Player doplayer, Player recplayer) {
-		recplayer.breakTool((BrokenToolCard) selectedCard);
-		playSelectedCard();
-		if(doplayer.getRole() == Player.Role.GOLD_MINER) {
-			if(recplayer.getRole() == Player.Role.GOLD_MINER)
-				scorePoints(-2);
-			else scorePoints(2);
-		} else if (doplayer.getRole() == Player.Role.SABOTEUR)
-			scorePoints(2);
-		else {
-			if(recplayer.getRole() == Player.Role.GOLD_MINER)
-				scorePoints(0);
-			else scorePoints(2);
-		}
-		nextPlayer();
+		session.submit(GameCommand.breakToolWithSelectedCard(doplayer, recplayer));
 	}
 	
 	/**
-	 * Schaut die übergebene Zielkarte an.<br>
-	 * Legt die ausgewählte Karte auf den Ablagestapel.<br>
-	 * Danach ist der nächste Spieler an der Reihe.
-	 * @param goalCard die anzuschauende Zielkarte
+	 * @see GameCommand#lookAtGoalCardWithSelectedCard(Player, GoalCard)
 	 */
 	public static void lookAtGoalCardWithSelectedCard(Player player, GoalCard goalCard) {
-		firePropertyChange(LOOK_AT_GOAL_CARD, goalCard);
-		discardPile.add(selectedCard);
-		playSelectedCard();
-		if(player.getRole() == Player.Role.GOLD_MINER)
-			scorePoints(-1);
-		nextPlayer();
+		session.submit(GameCommand.lookAtGoalCardWithSelectedCard(player, goalCard));
 	}
 	
 	/**
-	 * Legt die ausgewählte Karte auf den Ablagestapel.<br>
-	 * Danach ist der nächste Spieler an der Reihe.
+	 * @see GameCommand#discardSelectedCard(Player)
 	 */
 	public static void discardSelectedCard(Player player) {
-		Card card  = selectedCard;
-		discardPile.add(card);
-		playSelectedCard();
-		if(player.getRole() == Player.Role.GOLD_MINER) {
-			if(card.isMap() && !gameboard.atLeastOneGoalCardsIsVisible())
-				scorePoints(4);
-			else if(card.isBrokenTool())
-				scorePoints(2);
-		} else if(player.getRole() == Player.Role.SABOTEUR){
-			if(card.isMap() && !gameboard.atLeastOneGoalCardsIsVisible())
-				scorePoints(2);
-			else if(card.isBrokenTool())
-				scorePoints(2);
-		} else if(card.isPathCard())
-			scorePoints(2);
-		nextPlayer();
+		session.submit(GameCommand.discardSelectedCard(player));
 	}
 	
 	//////////////
 	// LISTENER //
 	//////////////
 	
-	private static PropertyChangeSupport pcs = new PropertyChangeSupport(GameController.class);
-	
 	// CONSTANTS //
 	
-	/**
-	 * Wird aktiviert, wenn das Spiel beendet ist.<br>
-	 * newValue (List&lt;Player&gt;): die Gewinner des Spiels
-	 */
-	public static final String GAME_OVER = "game_over";
-	
-	/**
-	 * Wird aktiviert, wenn ein neuer Spieler am Zug ist.
-	 */
-	public static final String NEXT_PLAYER = "next_player";
+	/** @see GameSession#GAME_OVER */
+	public static final String GAME_OVER = GameSession.GAME_OVER;
 	
-	/**
-	 * Wird aktiviert, wenn der nächste aktive Spieler über seinen Zug informiert werden soll.<br>
-	 * newValue (Player): der nächste aktive Spieler
-	 */
-	public static final String INFORM_NEXT_PLAYER = "prepare_next_player";
+	/** @see GameSession#INFORM_NEXT_PLAYER */
+	public static final String INFORM_NEXT_PLAYER = GameSession.INFORM_NEXT_PLAYER;
 	
-	/**
-	 * Wird aktiviert, wenn der aktive Spieler am Zug ist, aber keine Handkarten mehr zur Verfügung hat.
-	 */
-	public static final String ACTIVE_PLAYER_NO_HAND_CARDS = "active_player_no_hand_cards";
-	
-	/**
-	 * Wird aktiviert, wenn eine Karte ausgewählt wird.
-	 */
-	public static final String SELECT_CARD = "select_card";
+	/** @see GameSession#ACTIVE_PLAYER_NO_HAND_CARDS */
+	public static final String ACTIVE_PLAYER_NO_HAND_CARDS = GameSession.ACTIVE_PLAYER_NO_HAND_CARDS;
 	
-	/**
-	 * Wird aktiviert, wenn eine Karte nachgezogen wird.<br>
-	 * newValue (Card): die neue Karte; oder null
-	 */
-	public static final String DRAW_CARD = "draw_card";
+	/** @see GameSession#DRAW_CARD */
+	public static final String DRAW_CARD = GameSession.DRAW_CARD;
 	
-	/**
-	 * Wird aktiviert, wenn eine Zielkarte angeschaut wird.<br>
-	 * newValue (GoalCard): die angeschaute Zielkarte
-	 */
-	public static final String LOOK_AT_GOAL_CARD = "look_at_goal_card";
+	/** @see GameSession#LOOK_AT_GOAL_CARD */
+	public static final String LOOK_AT_GOAL_CARD = GameSession.LOOK_AT_GOAL_CARD;
 	
 	// METHODS //
 	
 	public static void addPropertyChangeListener(String name, PropertyChangeListener listener) {
-		pcs.addPropertyChangeListener(name, listener);
+		session.addPropertyChangeListener(name, listener);
 	}
 	
-	private static void firePropertyChange(String name, Object value) {
-		pcs.firePropertyChange(name, null, value);
-	}
-	
-	private static void firePropertyChange(String name) {
-		pcs.firePropertyChange(name, null, null);
+	/**
+	 * Abonniert die gebündelten Änderungen der aktuellen Sitzung auf dem Event Dispatch Thread.
+	 * @param listener der Abonnent
+	 * @see GameSession#subscribe(Consumer, java.util.concurrent.Executor)
+	 */
+	public static void addTurnListener(Consumer<TurnDelta> listener) {
+		session.subscribe(listener, SwingUtilities::invokeLater);
 	}
 	
 }
@@ -0,0 +1,200 @@
+package fop.controller;
+
+import java.util.List;
+import java.util.Objects;
+
+import fop.model.Player;
+import fop.model.board.Position;
+import fop.model.cards.BrokenToolCard;
+import fop.model.cards.Card;
+import fop.model.cards.GoalCard;
+import fop.model.cards.PathCard;
+
+/**
+ *
+ * Stellt ein Spiel aus einem {@link MoveLog} wieder her, ohne Benutzeroberfläche und ohne Verzögerungen.<br>
+ * <br>
+ * Die Wiedergabe erstellt eine Sitzung mit dem Startwert und den Spielern des Protokolls. Dadurch werden Rollen
+ * und Karten genauso verteilt wie im aufgezeichneten Spiel; anschließend werden die Züge der Reihe nach
+ * auf dem aufrufenden Thread ausgeführt. Computerspieler werden durch einfache Spieler ersetzt, die nicht selbst ziehen.
+ * Ein einzelner Zug dauert nur wenige Mikrosekunden, sodass sich auch viele archivierte Spiele schnell auswerten lassen.
+ * Mit {@link #seek(int)} wird ein beliebiger Zug über das nächste Schlüsselbild des Protokolls erreicht,
+ * ohne das Spiel von Beginn an wiederzugeben.
+ *
+ */
+public final class GameReplay {
+	
+	private final MoveLog log;
+	private final MoveLog.Moves moves;
+	private GameSession session;
+	
+	/** Die Stelle des nächsten Zugs in {@link #moves}. */
+	private final int[] offset = {0};
+	private int moveIndex = 0;
+	
+	/**
+	 * Beginnt die Wiedergabe des übergebenen Protokolls.<br>
+	 * Die Sitzung steht danach am Anfang des ersten Zugs.
+	 * @param log das Protokoll
+	 */
+	public GameReplay(MoveLog log) {
+		this.log = log;
+		moves = log.getMoves();
+		session = startSession();
+	}
+	
+	/**
+	 * Erstellt die Sitzung am Anfang des aufgezeichneten Spiels.
+	 * @return die Sitzung vor dem ersten Zug
+	 */
+	private GameSession startSession() {
+		GameSession session = new GameSession(Runnable::run, Pacing.NONE, log.getSeed());
+		for (int i = 0; i < log.getPlayerCount(); i++)
+			session.addReplayPlayer(log.getPlayerName(i), log.isComputer(i));
+		session.startGame();
+		return session;
+	}
+	
+	/**
+	 * Stellt das gesamte aufgezeichnete Spiel wieder her.
+	 * @param log das Protokoll
+	 * @return die Sitzung nach dem letzten Zug
+	 * @throws IllegalStateException wenn ein Zug nicht zum Spielstand passt
+	 */
+	public static GameSession replay(MoveLog log) {
+		GameReplay replay = new GameReplay(log);
+		replay.skip(Integer.MAX_VALUE);
+		return replay.getSession();
+	}
+	
+	/**
+	 * Gibt die Sitzung der Wiedergabe zurück. Sie darf nur zwischen den Zügen gelesen werden.
+	 * @return die Sitzung
+	 */
+	public GameSession getSession() {
+		return session;
+	}
+	
+	/**
+	 * Gibt die Anzahl der bereits ausgeführten Züge zurück.
+	 * @return die Nummer des nächsten Zugs
+	 */
+	public int getMoveIndex() {
+		return moveIndex;
+	}
+	
+	public boolean hasNextMove() {
+		return moveIndex < moves.count;
+	}
+	
+	public int getMoveCount() {
+		return moves.count;
+	}
+	
+	/**
+	 * Springt vor den übergebenen Zug, vorwärts oder rückwärts.<br>
+	 * Liegt das nächste Schlüsselbild vor dem Zug näher als der aktuelle Stand, wird die Sitzung aus ihm wiederhergestellt;
+	 * danach werden die restlichen Züge ausgeführt. Die bisherige Sitzung wird dabei durch eine neue ersetzt.
+	 * @param move die Nummer des Zugs, zwischen 0 und {@link #getMoveCount()}
+	 * @throws IndexOutOfBoundsException wenn es den Zug nicht gibt
+	 * @throws IllegalStateException wenn ein Zug nicht zum Spielstand passt
+	 */
+	public void seek(int move) {
+		Objects.checkIndex(move, moves.count + 1);
+		int keyframe = Math.min(move / MoveLog.KEYFRAME_INTERVAL, moves.keyframeCount);
+		int keyframeMove = keyframe * MoveLog.KEYFRAME_INTERVAL;
+		if (move < moveIndex || keyframeMove > moveIndex) {
+			if (keyframe == 0) {
+				session = startSession();
+				offset[0] = 0;
+			} else {
+				session = GameStateCodec.decodeForReplay(moves.keyframes[keyframe - 1]);
+				offset[0] = moves.keyframeOffsets[keyframe - 1];
+			}
+			moveIndex = keyframeMove;
+		}
+		skip(move - moveIndex);
+	}
+	
+	/**
+	 * Führt die übergebene Anzahl an Zügen aus, höchstens bis zum Ende des Protokolls.
+	 * @param count die Anzahl der Züge
+	 * @return die Anzahl der ausgeführten Züge
+	 * @throws IllegalStateException wenn ein Zug nicht zum Spielstand passt
+	 */
+	public int skip(int count) {
+		int done = 0;
+		while (done < count && hasNextMove()) {
+			nextMove();
+			done++;
+		}
+		return done;
+	}
+	
+	/**
+	 * Führt den nächsten Zug aus.
+	 * @return der ausgeführte Befehl
+	 * @throws IllegalStateException wenn kein Zug mehr folgt oder der Zug nicht zum Spielstand passt
+	 */
+	public GameCommand nextMove() {
+		if (!hasNextMove()) throw new IllegalStateException("The move log has no more moves.");
+		GameCommand command;
+		try {
+			command = readMove();
+		} catch (IndexOutOfBoundsException | ClassCastException | IllegalArgumentException e) {
+			throw new IllegalStateException(String.format("Move %d cannot be replayed.", moveIndex), e);
+		}
+		if (!command.execute(session))
+			throw new IllegalStateException(String.format("Move %d cannot be replayed.", moveIndex));
+		moveIndex++;
+		return command;
+	}
+	
+	/**
+	 * Liest den nächsten Zug und wählt die gespielte Karte in der gespeicherten Drehung aus.
+	 * @return der Befehl, der den Zug beendet
+	 */
+	private GameCommand readMove() {
+		byte[] data = moves.data;
+		int header = data[offset[0]++];
+		GameCommand.Type type = GameCommand.Type.values()[header & ~MoveLog.ROTATED];
+		Player player = session.getActivePlayer();
+		if (type == GameCommand.Type.DO_NOTHING) return GameCommand.doNothing(player);
+		
+		// select the played card
+		Card card = player.getAllHandCards().get(MoveLog.getVarint(data, offset));
+		if (card.isPathCard() && ((PathCard) card).isRotated() != ((header & MoveLog.ROTATED) != 0))
+			session.rotateCard((PathCard) card);
+		session.selectCard(card);
+		
+		switch (type) {
+			case PLACE_CARD:
+				return GameCommand.placeSelectedCardAt(player, readCoordinate(), readCoordinate());
+			case DESTROY_CARD:
+				return GameCommand.destroyCardWithSelectedCardAt(player, readCoordinate(), readCoordinate());
+			case FIX_TOOL:
+				Player target = session.getPlayers()[MoveLog.getVarint(data, offset)];
+				List<BrokenToolCard> brokenTools = target.getBrokenTools();
+				return GameCommand.fixBrokenToolCardWithSelectedCard(player, target, brokenTools.get(MoveLog.getVarint(data, offset)));
+			case BREAK_TOOL:
+				return GameCommand.breakToolWithSelectedCard(player, session.getPlayers()[MoveLog.getVarint(data, offset)]);
+			case LOOK_AT_GOAL_CARD:
+				Position pos = Position.of(readCoordinate(), readCoordinate());
+				return GameCommand.lookAtGoalCardWithSelectedCard(player, (GoalCard) session.getGameboard().getBoard().get(pos));
+			case DISCARD_CARD:
+				return GameCommand.discardSelectedCard(player);
+			default:
+				throw new IllegalArgumentException(String.format("The move type %s is not recorded.", type));
+		}
+	}
+	
+	private int readCoordinate() {
+		return MoveLog.unZigZag(MoveLog.getVarint(moves.data, offset));
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("GameReplay (%d/%d)", moveIndex, moves.count);
+	}
+	
+}
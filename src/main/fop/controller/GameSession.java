@@ -0,0 +1,985 @@
+package fop.controller;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import fop.io.ActionCardReader;
+import fop.io.PathCardReader;
+import fop.model.ComputerPlayer;
+import fop.model.GameRandom;
+import fop.model.Player;
+import fop.model.Player.Role;
+import fop.model.board.Gameboard;
+import fop.controller.TurnDelta.Change;
+import fop.model.board.Position;
+import fop.model.cards.*;
+import fop.model.cards.GoalCard.Type;
+
+/**
+ * 
+ * Verwaltet das Gameplay eines einzelnen Spiels.<br>
+ * <br>
+ * Eine Sitzung besitzt den gesamten Spielzustand und die Spielregeln und ist unabhängig von der Benutzeroberfläche.
+ * Beliebig viele Sitzungen können gleichzeitig existieren. Aufgaben, die nicht auf dem aufrufenden Thread laufen sollen
+ * (der Beginn des ersten Zugs und die Züge der Computerspieler), werden an den übergebenen {@link Executor} gegeben.
+ * Verzögerungen zwischen den Schritten legt die {@link Pacing Taktung} fest; sie blockieren keinen Thread.
+ * Mit {@link Pacing#NONE} spielen Computerspieler so schnell wie möglich, zum Beispiel in Simulationen.<br>
+ * Alle zufälligen Entscheidungen beruhen auf dem Startwert der Sitzung (siehe {@link GameRandom}),
+ * sodass Startwert und Spieler den Spielverlauf ohne menschliche Spieler vollständig festlegen.<br>
+ * Änderungen am Spielzustand werden gesammelt und gebündelt als {@link TurnDelta} an die Abonnenten verteilt
+ * (siehe {@link #subscribe(Consumer, Executor)}); nur Ereignisse, auf die die Benutzeroberfläche sofort reagieren muss,
+ * werden weiterhin als {@link java.beans.PropertyChangeEvent} gesendet.<br>
+ * Eine Sitzung folgt dem Aktor-Prinzip: Der {@link Executor} muss seine Aufgaben nacheinander ausführen,
+ * und nur diese Aufgaben verändern das Spiel. Spieler geben ihre Aktionen als {@link GameCommand} über
+ * {@link #submit(GameCommand)} in Auftrag; andere Threads lesen den Spielzustand aus dem unveränderlichen
+ * {@link GameSnapshot} (siehe {@link #getSnapshot()}). Die übrigen Getter dürfen nur vom besitzenden Thread benutzt werden.
+ * @see GameController
+ *
+ */
+public final class GameSession {
+	
+	// Konstanten
+	private static final String ACTION_CARDS = "/actioncards.xml";
+	private static final String PATH_CARDS = "/pathcards.xml";
+	
+	// Spielvariablen
+	private final List<Player> players = new ArrayList<>();
+	private final Stack<Card> drawDeck = new Stack<>();
+	private final Stack<Card> discardPile = new Stack<>();
+	private final Gameboard gameboard = new Gameboard();
+	
+	private int activePlayer = -1;
+	private Card selectedCard = null;
+	private int turnCount = 0;
+	
+	/** Die Anzahl der Handkarten aller Spieler, damit das Spielende ohne Durchlaufen der Hände erkannt wird. */
+	private int handCardCount = 0;
+	
+	private static final int MANAGER_WIN = 30;
+	
+	/** Führt Aufgaben im Hintergrund aus, eine nach der anderen; nur diese Aufgaben verändern das Spiel. */
+	private final Executor backgroundExecutor;
+	
+	/** Die Verzögerungen zwischen den Schritten des Spiels. */
+	private final Pacing pacing;
+	
+	// Zufall
+	private final long seed;
+	private final GameRandom random;
+	
+	/** Quelle für rein optische Zufallsentscheidungen, damit diese den Spielverlauf nicht beeinflussen. */
+	private final GameRandom viewRandom;
+	
+	// Aufzeichnung
+	private boolean recordMoves = false;
+	private volatile MoveLog moveLog = null;
+	
+	/**
+	 * Die Handkarten, die seit dem Ziehen ungerade oft gedreht wurden.<br>
+	 * Das {@link MoveLog} speichert nur die Drehung der gespielten Karte, seine Schlüsselbilder daher die Drehung beim Ziehen.
+	 */
+	private final Set<Card> rotatedHandCards = Collections.newSetFromMap(new IdentityHashMap<>());
+	
+	/**
+	 * Erstellt eine neue Sitzung ohne Spieler mit zufälligem Startwert und den Verzögerungen der Benutzeroberfläche.
+	 * @param backgroundExecutor führt die Aufgaben der Sitzung nacheinander aus
+	 * @see Pacing#DEFAULT
+	 */
+	public GameSession(Executor backgroundExecutor) {
+		this(backgroundExecutor, Pacing.DEFAULT);
+	}
+	
+	/**
+	 * Erstellt eine neue Sitzung ohne Spieler mit zufälligem Startwert.
+	 * @param backgroundExecutor führt die Aufgaben der Sitzung nacheinander aus
+	 * @param pacing die Verzögerungen zwischen den Schritten des Spiels
+	 */
+	public GameSession(Executor backgroundExecutor, Pacing pacing) {
+		this(backgroundExecutor, pacing, ThreadLocalRandom.current().nextLong());
+	}
+	
+	/**
+	 * Erstellt eine neue Sitzung ohne Spieler.
+	 * @param backgroundExecutor führt die Aufgaben der Sitzung nacheinander aus
+	 * @param pacing die Verzögerungen zwischen den Schritten des Spiels
+	 * @param seed der Startwert aller zufälligen Entscheidungen
+	 */
+	public GameSession(Executor backgroundExecutor, Pacing pacing, long seed) {
+		this.backgroundExecutor = backgroundExecutor;
+		this.pacing = pacing;
+		this.seed = seed;
+		this.random = new GameRandom(seed);
+		this.viewRandom = random.split();
+	}
+	
+	
+	//////////
+	// INIT //
+	//////////
+	
+	/**
+	 * Fügt einen neuen Spieler hinzu.
+	 * @param name der Name des Spielers
+	 * @param isComputer gibt an, ob der Spieler ein Computergegner ist
+	 * @see fop.model.Player.Role
+	 */
+	public void addPlayer(String name, boolean isComputer) {
+		if (isComputer)
+			players.add(new ComputerPlayer(name, this));
+		else players.add(new Player(name));
+	}
+	
+	/**
+	 * Fügt einen Spieler für die Wiedergabe hinzu.<br>
+	 * Ein Computerspieler verbraucht dieselbe Zufallsquelle wie in {@link #addPlayer(String, boolean)},
+	 * damit Rollen und Karten wie im aufgezeichneten Spiel verteilt werden, zieht aber nicht selbst.
+	 * @param name der Name des Spielers
+	 * @param isComputer gibt an, ob der Spieler im aufgezeichneten Spiel ein Computergegner war
+	 * @see GameReplay
+	 */
+	void addReplayPlayer(String name, boolean isComputer) {
+		if (isComputer) random.split();
+		players.add(new Player(name));
+	}
+	
+	/**
+	 * Zeichnet ab dem Start des Spiels alle angenommenen Züge auf. Muss vor {@link #startGame()} aufgerufen werden.
+	 * @see #getMoveLog()
+	 */
+	public void recordMoves() {
+		recordMoves = true;
+	}
+	
+	/**
+	 * Startet das Spiel.<br>
+	 * Dabei werden die Rollen verteilt, der Kartenstapel erstellt und gemischt und das Wegelabyrinth initialisiert.
+	 */
+	public void startGame() {
+		if (recordMoves) moveLog = new MoveLog(seed, players);
+		assignRoles();
+		initCards();
+		dealStartCards();
+		initMaze();
+		flushChanges();
+		runInBackground(this::nextPlayer, pacing.getStartDelay());
+	}
+	
+	/**
+	 * Führt die übergebene Aufgabe im Hintergrund aus, zum Beispiel den Zug eines Computerspielers.
+	 * @param task die auszuführende Aufgabe
+	 */
+	public void runInBackground(Runnable task) {
+		backgroundExecutor.execute(task);
+	}
+	
+	/**
+	 * Stellt den übergebenen Befehl in die Warteschlange der Sitzung.<br>
+	 * Der Befehl wird im Hintergrund ausgeführt, nach allen vorher eingereihten Aufgaben.
+	 * @param command der auszuführende Befehl
+	 */
+	public void submit(GameCommand command) {
+		runInBackground(() -> command.execute(this));
+	}
+	
+	/**
+	 * Stellt den übergebenen Befehl nach der übergebenen Verzögerung in die Warteschlange der Sitzung.
+	 * @param command der auszuführende Befehl
+	 * @param delayMillis die Verzögerung in Millisekunden
+	 * @see #runInBackground(Runnable, long)
+	 */
+	public void submit(GameCommand command, long delayMillis) {
+		runInBackground(() -> command.execute(this), delayMillis);
+	}
+	
+	/**
+	 * Führt die übergebene Aufgabe nach der übergebenen Verzögerung im Hintergrund aus.<br>
+	 * Während der Verzögerung wird kein Thread blockiert, ein gemeinsamer Zeitgeber übergibt die Aufgabe
+	 * erst nach Ablauf der Verzögerung an den {@link Executor} der Sitzung.
+	 * @param task die auszuführende Aufgabe
+	 * @param delayMillis die Verzögerung in Millisekunden
+	 */
+	public void runInBackground(Runnable task, long delayMillis) {
+		if (delayMillis <= 0)
+			runInBackground(task);
+		else Timer.SCHEDULER.schedule(() -> runInBackground(task), delayMillis, TimeUnit.MILLISECONDS);
+	}
+	
+	/**
+	 * Erstellt den gemeinsamen Zeitgeber aller Sitzungen beim ersten verzögerten Schritt.
+	 */
+	private static final class Timer {
+		
+		private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "GameSession-Timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+	}
+	
+	/**
+	 * Setzt die Rollen der Spieler.
+	 */
+	public void assignRoles() {
+		if (players.isEmpty()) return;
+		int playerCount = players.size();
+		
+		int saboteurCount = playerCount <= 10 ? List.of(0, 1, 1, 1, 2, 2, 3, 3, 3, 4).get(playerCount - 1) : playerCount / 2 - 1;
+		int goldMinerCount = playerCount <= 10 ? List.of(1, 1, 3, 4, 4, 5, 5, 6, 7, 7).get(playerCount - 1) : playerCount - saboteurCount + 1;
+		int thirdRoleCount = playerCount <= 10 ? List.of(0, 1, 1, 1, 2, 2, 3, 3, 3, 4).get(playerCount - 1) : playerCount / 2;
+		
+		List<Role> roles = new ArrayList<>();
+		for (int i = 0; i < saboteurCount; i++)
+			roles.add(Role.SABOTEUR);
+		for (int i = 0; i < goldMinerCount; i++)
+			roles.add(Role.GOLD_MINER);
+		if (Role.values().length > 2) {
+			Role thirdRole = Arrays.stream(Role.values()).filter(r -> r != Role.SABOTEUR && r != Role.GOLD_MINER).findFirst().get();
+			for (int i = 0; i < thirdRoleCount; i++)
+				roles.add(thirdRole);
+		}
+		
+		random.shuffle(roles);
+		for (Player player : players)
+			player.assignRole(roles.remove(0));
+		changed(Change.PLAYERS);
+	}
+	
+	/**
+	 * Initialisiert und mischt den Nachziehstapel.
+	 */
+	private void initCards() {
+		drawDeck.clear();
+		initActionCards(); // Aktionskarten
+		initPathCards();   // Wegekarten
+		random.shuffle(drawDeck); // Karten mischen
+		changed(Change.PILES);
+	}
+	
+	/**
+	 * Fügt dem {@link #drawDeck} alle Aktionskarten hinzu.
+	 */
+	private void initActionCards() {
+		// action cards are immutable and shared by all sessions
+		drawDeck.addAll(CardDefinitions.ACTION_CARDS);
+	}
+	
+	/**
+	 * Fügt dem {@link #drawDeck} alle Wegekarten hinzu.
+	 */
+	private void initPathCards() {
+		// copy path cards, each session rotates its own cards
+		List<PathCard> pathCards = new ArrayList<>(CardDefinitions.PATH_CARDS.size());
+		for (PathCard definition : CardDefinitions.PATH_CARDS)
+			pathCards.add(new PathCard(definition.getName(), definition.getShape()));
+		
+		// rotate 50% of cards randomly
+		for (PathCard card : pathCards)
+			if (random.nextDouble() <= 0.5) card.rotate();
+		
+		// add cards to deck
+		drawDeck.addAll(pathCards);
+	}
+	
+	/**
+	 * Verteilt die Startkarten an alle Spieler.
+	 */
+	private void dealStartCards() {
+		int playerCount = players.size();
+		int cardCount = playerCount <= 7 ? playerCount <= 5 ? 6 : 5 : 4;
+		for (int i = 0; i < cardCount; i++)
+			for (Player player : players)
+				drawCard(player);
+	}
+	
+	/**
+	 * Initialisiert das Wegelabyrinth.
+	 */
+	private void initMaze() {
+		gameboard.placeCard(0, 0, new StartCard());
+		List<GoalCard> goalCards = new ArrayList<>(List.of(new GoalCard(Type.Gold), new GoalCard(Type.Stone), new GoalCard(Type.Stone)));
+		random.shuffle(goalCards);
+		gameboard.placeCard(8, -2, goalCards.remove(0));
+		gameboard.placeCard(8, 0, goalCards.remove(0));
+		gameboard.placeCard(8, 2, goalCards.remove(0));
+		changed(Change.BOARD);
+	}
+	
+	
+	/**
+	 * Liest die Kartendefinitionen beim ersten Zugriff einmalig für alle Sitzungen ein.<br>
+	 * Die Reihenfolge der Definitionen legt die IDs der Karten in {@link GameStateCodec} fest.
+	 */
+	static final class CardDefinitions {
+		
+		static final List<ActionCard> ACTION_CARDS = List.copyOf(ActionCardReader.readFromResource(GameSession.ACTION_CARDS));
+		static final List<PathCard> PATH_CARDS = List.copyOf(PathCardReader.readFromResource(GameSession.PATH_CARDS));
+		
+	}
+	
+	
+	////////////
+	// GETTER //
+	////////////
+	
+	public Player[] getPlayers() {
+		return players.toArray(Player[]::new);
+	}
+	
+	public Player getActivePlayer() {
+		if (activePlayer == -1) return null;
+		return players.get(activePlayer);
+	}
+	
+	public Card getSelectedCard() {
+		return selectedCard;
+	}
+	
+	/**
+	 * Gibt die Anzahl der bisher begonnenen Züge zurück.
+	 * @return die Anzahl der Züge
+	 */
+	public int getTurnCount() {
+		return turnCount;
+	}
+	
+	public long getSeed() {
+		return seed;
+	}
+	
+	/**
+	 * Leitet eine unabhängige Zufallsquelle für Entscheidungen im Spiel ab, zum Beispiel für einen Computerspieler.<br>
+	 * Darf nur von dem Thread aufgerufen werden, der das Spiel verändert.
+	 * @return die neue Zufallsquelle
+	 */
+	public GameRandom splitRandom() {
+		return random.split();
+	}
+	
+	/**
+	 * Leitet eine Zufallsquelle für rein optische Entscheidungen der Benutzeroberfläche ab.<br>
+	 * Diese Quellen sind vom Spielverlauf unabhängig und dürfen von einem beliebigen Thread angefordert werden.
+	 * @return die neue Zufallsquelle
+	 */
+	public GameRandom createViewRandom() {
+		synchronized (viewRandom) {
+			return viewRandom.split();
+		}
+	}
+	
+	/**
+	 * Gibt die Aufzeichnung der Züge zurück.
+	 * @return die Aufzeichnung; oder null, wenn keine Züge aufgezeichnet werden oder das Spiel noch nicht gestartet ist
+	 * @see #recordMoves()
+	 */
+	public MoveLog getMoveLog() {
+		return moveLog;
+	}
+	
+	public Pacing getPacing() {
+		return pacing;
+	}
+	
+	public Gameboard getGameboard() {
+		return gameboard;
+	}
+	
+	public Set<Position> getCardPositions() {
+		return gameboard.getBoard().keySet();
+	}
+	
+	public PathCard getCardAt(Position pos) {
+		return gameboard.getBoard().getOrDefault(pos, null);
+	}
+	
+	public boolean canCardBePlacedAt(int x, int y, PathCard card) {
+		return gameboard.canCardBePlacedAt(x, y, card);
+	}
+	
+	public boolean canCardBeDestroyedAt(int x, int y) {
+		return gameboard.canCardBeDestroyedAt(x, y);
+	}
+	
+	public Set<Position> getValidPositions(PathCard card) {
+		return gameboard.getValidPositions(card);
+	}
+	
+	public int getDrawDeckSize() {
+		return drawDeck.size();
+	}
+	
+	public List<Card> getDiscardPile() {
+		return new ArrayList<>(discardPile);
+	}
+	
+	public List<Position> getAllGoalCards(){
+		return gameboard.findGoalCard();
+	}
+	
+	public Position getPosGoldCard() {
+		return gameboard.findGoldCard();
+	}
+	
+	
+	//////////////
+	// GAMEPLAY //
+	//////////////
+	
+	/**
+	 * Gibt die Gewinner des Spiels zurück.<br>
+	 * Alle Siegbedingungen werden über Zähler geprüft, die bei jeder Änderung aktualisiert werden,
+	 * daher hängt die Prüfung nicht von der Größe des Wegelabyrinths oder der Anzahl der Handkarten ab.
+	 * @return die Gewinner; oder null falls das Spiel noch nicht beendet ist
+	 */
+	public List<Player> getWinners() {
+		// Goldkarte wurde aufgedeckt -> Goldsucher gewinnen
+		if (gameboard.isGoldCardVisible())
+			return players.stream().filter(p -> p.getRole() == Player.Role.GOLD_MINER).collect(Collectors.toList());
+		
+		// keine Karten mehr übrig -> Saboteure gewinnen
+		if (drawDeck.isEmpty() && handCardCount == 0)
+			return players.stream().filter(p -> p.getRole() == Player.Role.SABOTEUR).collect(Collectors.toList());
+		
+		// 30 Pathcards liegen im Board -> Manager gewinnt
+		if (gameboard.getNumberOfCardsInGameBoardWOStartAndGoal() >= MANAGER_WIN)
+			return players.stream().filter(p -> p.getRole() == Player.Role.MANAGER).collect(Collectors.toList());
+		
+		// noch kein Gewinner
+		return null;
+	}
+	
+	/**
+	 * Beendet den Zug des aktuellen aktiven Spielers und startet den Zug des nächsten Spielers.<br>
+	 * Dabei zieht der alte aktive Spieler eine Karte nach.
+	 */
+	private void nextPlayer() {
+		// Spielende prüfen
+		List<Player> winners = getWinners();
+		if (winners != null) {
+			// Siegpunkte verteilen
+			for (Player player : winners) {
+				if(player.getRole() == Player.Role.GOLD_MINER) 
+					player.scorePoints(20);
+				else if (player.getRole() == Player.Role.SABOTEUR)
+					player.scorePoints(30);
+				else player.scorePoints(10);
+			}
+			changed(Change.PLAYERS);
+			// Spielende signalisieren
+			setSelectedCard(null);
+			activePlayer = -1;
+			changed(Change.ACTIVE_PLAYER);
+			firePropertyChange(GAME_OVER, winners);
+			flushChanges();
+			return;
+		}
+		
+		// Karte nachziehen
+		drawCard();
+		
+		// der nächste Spieler ist am Zug
+		int nextActivePlayer = activePlayer + 1;
+		if (nextActivePlayer == players.size()) nextActivePlayer = 0;
+		
+		// alle Karten verstecken
+		setSelectedCard(null);
+		activePlayer = -1;
+		changed(Change.ACTIVE_PLAYER);
+		
+		// nächsten Spieler informieren
+		firePropertyChange(INFORM_NEXT_PLAYER, players.get(nextActivePlayer));
+		
+		// Karten des aktiven Spielers zeigen
+		activePlayer = nextActivePlayer;
+		turnCount++;
+		changed(Change.ACTIVE_PLAYER);
+		flushChanges();
+		
+		// Zug direkt an den aktiven Spieler übergeben
+		Player player = getActivePlayer();
+		player.beginTurn();
+		if (player.getAllHandCards().isEmpty())
+			firePropertyChange(ACTIVE_PLAYER_NO_HAND_CARDS);
+	}
+	
+	/**
+	 * Der übergebene Spieler zieht eine Karte vom Nachziehstapel.
+	 * @param player der Spieler, der eine Karten zieht
+	 * @return die gezogene Karte; oder null
+	 */
+	private Card drawCard(Player player) {
+		// wenn das Deck leer ist geht das Spiel weiter bis kein Spieler mehr Handkarten hat
+		if (drawDeck.isEmpty()) return null;
+		if (player == null) return null;
+		Card card = drawDeck.pop();
+		player.drawCard(card);
+		handCardCount++;
+		changed(Change.PILES);
+		changed(Change.PLAYERS);
+		return card;
+	}
+	
+	private void drawCard() {
+		Card card = drawCard(getActivePlayer());
+		firePropertyChange(DRAW_CARD, card);
+	}
+	
+	/**
+	 * Benutzt die ausgewählte Karte des aktiven Spielers.
+	 */
+	private void playSelectedCard() {
+		getActivePlayer().playCard(selectedCard);
+		rotatedHandCards.remove(selectedCard);
+		handCardCount--;
+		changed(Change.PLAYERS);
+		setSelectedCard(null);
+	}
+	
+	/**
+	 * Wählt eine Karte aus. Dementsprechend wird die Benutzeroberfläche aktualisiert.
+	 * @param card die auszuwählende Karte
+	 */
+	public void selectCard(Card card) {
+		setSelectedCard(card);
+		flushChanges();
+	}
+	
+	private void setSelectedCard(Card card) {
+		selectedCard = card;
+		changed(Change.SELECTED_CARD);
+	}
+	
+	/**
+	 * Dreht eine Wegekarte auf der Hand des aktiven Spielers.
+	 * @param card die zu drehende Karte
+	 */
+	void rotateCard(PathCard card) {
+		card.rotate();
+		if (!rotatedHandCards.remove(card))
+			rotatedHandCards.add(card);
+		changed(Change.PLAYERS);
+		if (card == selectedCard)
+			setSelectedCard(card);
+		flushChanges();
+	}
+	
+	/**
+	 * Gibt dem aktiven Spieler die übergebene Anzahl Punkte.
+	 * @param points die zu vergebenden Punkte
+	 */
+	private void scorePoints(int points) {
+		getActivePlayer().scorePoints(points);
+		changed(Change.PLAYERS);
+	}
+	
+	/**
+	 * Zeichnet den übergebenen Befehl auf, bevor er ausgeführt wird.
+	 * @param command der angenommene Befehl
+	 */
+	void record(GameCommand command) {
+		if (moveLog != null) moveLog.append(this, command);
+	}
+	
+	// POSSIBLE ACTIONS //
+	
+	/**
+	 * Beendet den Zug des aktiven Spielers.<br>
+	 * Danach ist der nächste Spieler an der Reihe.
+	 */
+	void doNothing() {
+		nextPlayer();
+	}
+	
+	
+	/**
+	 * Setzt die ausgewählte Karte in das Wegelabyrinth.<br>
+	 * Danach ist der nächste Spieler an der Reihe.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 * @see Gameboard#placeCard(int, int, PathCard)
+	 */
+	void placeSelectedCardAt(Player player, int x, int y) {
+		gameboard.placeCard(x, y, (PathCard) selectedCard);
+		changed(Change.BOARD);
+		playSelectedCard();
+		if(player.getRole() == Player.Role.SABOTEUR)
+			scorePoints(gameboard.getNumberOfAdjacentCards(x, y) + 1);
+		else if(player.getRole() == Player.Role.GOLD_MINER)
+			scorePoints((int)Math.ceil(gameboard.distanceFromStartcard(x, y)/2.0));
+		else scorePoints((int)Math.ceil(gameboard.getNumberOfCardsInGameBoardWOStartAndGoal()/2.0));
+		nextPlayer();
+	}
+	
+	/**
+	 * Zerstört die Wegekarte an der übergebenen Position mit der ausgewählten Karte.<br>
+	 * Legt die zerstörte und die ausgewählte Karte auf den Ablagestapel.<br>
+	 * Danach ist der nächste Spieler an der Reihe.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 * @see Gameboard#removeCard(int, int)
+	 */
+	void destroyCardWithSelectedCardAt(Player player, int x, int y) {
+		PathCard oldCard = gameboard.removeCard(x, y);
+		discardPile.add(oldCard);
+		discardPile.add(selectedCard);
+		changed(Change.BOARD);
+		changed(Change.PILES);
+		playSelectedCard();
+		if(player.getRole() == Player.Role.GOLD_MINER)
+			scorePoints(0-gameboard.getNumberOfAdjacentCards(x, y));
+		else if(player.getRole() == Player.Role.SABOTEUR)
+			scorePoints(gameboard.getNumberOfAdjacentCards(x, y) + 1);
+		else scorePoints(2);
+		nextPlayer();
+	}
+	
+	/**
+	 * Repariert die Karte mit dem zerbrochenen Werkzeug mit der ausgewählten Karte.<br>
+	 * Legt die Karte mit dem zerbrochenen Werkzeug und die ausgewählte Karte auf den Ablagestapel.<br>
+	 * Danach ist der nächste Spieler an der Reihe.
+	 * @param player der Spieler, dessen Werkzeug repariert wird
+	 * @param brokenToolCard die Karte, die repariert wird
+	 * @see Player#fixBrokenTool(BrokenToolCard, FixedToolCard)
+	 */
+	void fixBrokenToolCardWithSelectedCard(Player doplayer, Player recplayer, BrokenToolCard brokenToolCard) {
+		recplayer.fixBrokenTool(brokenToolCard, (FixedToolCard) selectedCard);
+		discardPile.add(brokenToolCard);
+		discardPile.add(selectedCard);
+		changed(Change.PILES);
+		playSelectedCard();
+		if(doplayer.getRole() == Player.Role.GOLD_MINER)
+			scorePoints(3); 
+		else if(doplayer.getRole() == Player.Role.SABOTEUR) {
+			if(recplayer.getRole() == Player.Role.SABOTEUR)
+				scorePoints(2);
+			else scorePoints(-2);
+		} else scorePoints(3);
+		
+		nextPlayer();
+	}
+	
+	/**
+	 * Zerstört das Werkzeug eines Spielers mit der ausgewählten Karte.<br>
+	 * Danach ist der nächste Spieler an der Reihe.
+	 * @param player der Spieler, dessen Werkzeug zerstört wird
+	 */
+	void breakToolWithSelectedCard(Player doplayer, Player recplayer) {
+		recplayer.breakTool((BrokenToolCard) selectedCard);
+		playSelectedCard();
+		if(doplayer.getRole() == Player.Role.GOLD_MINER) {
+			if(recplayer.getRole() == Player.Role.GOLD_MINER)
+				scorePoints(-2);
+			else scorePoints(2);
+		} else if (doplayer.getRole() == Player.Role.SABOTEUR)
+			scorePoints(2);
+		else {
+			if(recplayer.getRole() == Player.Role.GOLD_MINER)
+				scorePoints(0);
+			else scorePoints(2);
+		}
+		nextPlayer();
+	}
+	
+	/**
+	 * Schaut die übergebene Zielkarte an.<br>
+	 * Legt die ausgewählte Karte auf den Ablagestapel.<br>
+	 * Danach ist der nächste Spieler an der Reihe.
+	 * @param goalCard die anzuschauende Zielkarte
+	 */
+	void lookAtGoalCardWithSelectedCard(Player player, GoalCard goalCard) {
+		firePropertyChange(LOOK_AT_GOAL_CARD, goalCard);
+		discardPile.add(selectedCard);
+		changed(Change.PILES);
+		playSelectedCard();
+		if(player.getRole() == Player.Role.GOLD_MINER)
+			scorePoints(-1);
+		nextPlayer();
+	}
+	
+	/**
+	 * Legt die ausgewählte Karte auf den Ablagestapel.<br>
+	 * Danach ist der nächste Spieler an der Reihe.
+	 */
+	void discardSelectedCard(Player player) {
+		Card card  = selectedCard;
+		discardPile.add(card);
+		changed(Change.PILES);
+		playSelectedCard();
+		if(player.getRole() == Player.Role.GOLD_MINER) {
+			if(card.isMap() && !gameboard.atLeastOneGoalCardsIsVisible())
+				scorePoints(4);
+			else if(card.isBrokenTool())
+				scorePoints(2);
+		} else if(player.getRole() == Player.Role.SABOTEUR){
+			if(card.isMap() && !gameboard.atLeastOneGoalCardsIsVisible())
+				scorePoints(2);
+			else if(card.isBrokenTool())
+				scorePoints(2);
+		} else if(card.isPathCard())
+			scorePoints(2);
+		nextPlayer();
+	}
+	
+	///////////
+	// STATE //
+	///////////
+	
+	/**
+	 * Gibt den Nachziehstapel zurück, die oberste Karte liegt am Ende.
+	 * @return der Nachziehstapel selbst, nicht kopiert
+	 */
+	List<Card> getDrawDeck() {
+		return drawDeck;
+	}
+	
+	/**
+	 * Gibt den Ablagestapel zurück, die oberste Karte liegt am Ende.
+	 * @return der Ablagestapel selbst, nicht kopiert
+	 */
+	List<Card> getDiscardPileCards() {
+		return discardPile;
+	}
+	
+	int getActivePlayerIndex() {
+		return activePlayer;
+	}
+	
+	/**
+	 * Gibt an, ob die übergebene Handkarte seit dem Ziehen ungerade oft gedreht wurde.
+	 * @param card die Handkarte
+	 * @return {@code true} wenn ihre Drehung von der beim Ziehen abweicht; sonst {@code false}
+	 */
+	boolean isRotatedSinceDrawn(Card card) {
+		return rotatedHandCards.contains(card);
+	}
+	
+	/**
+	 * Übernimmt einen wiederhergestellten Spielstand.<br>
+	 * Spieler und Wegelabyrinth müssen bereits wiederhergestellt sein.
+	 * @param drawDeck der Nachziehstapel, die oberste Karte am Ende
+	 * @param discardPile der Ablagestapel, die oberste Karte am Ende
+	 * @param activePlayer der Index des aktiven Spielers; oder {@code -1}
+	 * @param selectedCard die ausgewählte Karte; oder null
+	 * @param turnCount die Anzahl der bisher begonnenen Züge
+	 * @see GameStateCodec#decode(java.nio.ByteBuffer, Executor, Pacing)
+	 */
+	void restore(List<Card> drawDeck, List<Card> discardPile, int activePlayer, Card selectedCard, int turnCount) {
+		this.drawDeck.clear();
+		this.drawDeck.addAll(drawDeck);
+		this.discardPile.clear();
+		this.discardPile.addAll(discardPile);
+		this.activePlayer = activePlayer;
+		this.selectedCard = selectedCard;
+		this.turnCount = turnCount;
+		snapshotCards.clear();
+		rotatedHandCards.clear();
+		handCardCount = players.stream().mapToInt(player -> player.getAllHandCards().size()).sum();
+		pendingChanges.addAll(EnumSet.allOf(Change.class));
+	}
+	
+	/**
+	 * Setzt ein wiederhergestelltes Spiel fort, indem der aktive Spieler seinen Zug beginnt.<br>
+	 * Ist das Spiel bereits beendet oder noch niemand am Zug, werden nur die Abonnenten benachrichtigt.
+	 */
+	public void resume() {
+		flushChanges();
+		Player player = getActivePlayer();
+		if (player == null || getWinners() != null) return;
+		runInBackground(() -> {
+			player.beginTurn();
+			if (player.getAllHandCards().isEmpty())
+				firePropertyChange(ACTIVE_PLAYER_NO_HAND_CARDS);
+		}, pacing.getStartDelay());
+	}
+	
+	//////////////
+	// LISTENER //
+	//////////////
+	
+	private final PropertyChangeSupport pcs = new PropertyChangeSupport(this);
+	
+	// CONSTANTS //
+	
+	/**
+	 * Wird aktiviert, wenn das Spiel beendet ist.<br>
+	 * Die Siegpunkte sind zu diesem Zeitpunkt bereits verteilt.<br>
+	 * newValue (List&lt;Player&gt;): die Gewinner des Spiels
+	 */
+	public static final String GAME_OVER = "game_over";
+	
+	/**
+	 * Wird aktiviert, wenn der nächste aktive Spieler über seinen Zug informiert werden soll.<br>
+	 * newValue (Player): der nächste aktive Spieler
+	 */
+	public static final String INFORM_NEXT_PLAYER = "prepare_next_player";
+	
+	/**
+	 * Wird aktiviert, wenn der aktive Spieler am Zug ist, aber keine Handkarten mehr zur Verfügung hat.
+	 */
+	public static final String ACTIVE_PLAYER_NO_HAND_CARDS = "active_player_no_hand_cards";
+	
+	/**
+	 * Wird aktiviert, wenn eine Karte nachgezogen wird.<br>
+	 * newValue (Card): die neue Karte; oder null
+	 */
+	public static final String DRAW_CARD = "draw_card";
+	
+	/**
+	 * Wird aktiviert, wenn eine Zielkarte angeschaut wird.<br>
+	 * newValue (GoalCard): die angeschaute Zielkarte
+	 */
+	public static final String LOOK_AT_GOAL_CARD = "look_at_goal_card";
+	
+	// METHODS //
+	
+	public void addPropertyChangeListener(String name, PropertyChangeListener listener) {
+		pcs.addPropertyChangeListener(name, listener);
+	}
+	
+	/**
+	 * Sendet ein Ereignis, auf das sofort reagiert werden muss.<br>
+	 * Vorher werden alle gesammelten Änderungen veröffentlicht, damit die Benutzeroberfläche aktuell ist.
+	 */
+	private void firePropertyChange(String name, Object value) {
+		if (!pcs.hasListeners(name)) return;
+		flushChanges();
+		pcs.firePropertyChange(name, null, value);
+	}
+	
+	private void firePropertyChange(String name) {
+		firePropertyChange(name, null);
+	}
+	
+	////////////////
+	// TURN DELTA //
+	////////////////
+	
+	private final EventBus eventBus = new EventBus();
+	
+	/** Die Arten der Änderungen seit der letzten Veröffentlichung. */
+	private final EnumSet<Change> pendingChanges = EnumSet.noneOf(Change.class);
+	
+	/** Die Arten der Änderungen, die noch in keinem Schnappschuss enthalten sind. */
+	private final EnumSet<Change> unsnapshotChanges = EnumSet.allOf(Change.class);
+	
+	/** Der zuletzt veröffentlichte Schnappschuss, lesbar von allen Threads. */
+	private volatile GameSnapshot snapshot = GameSnapshot.EMPTY;
+	
+	/**
+	 * Die Kopien der Wegekarten in den Schnappschüssen, nach der Karte im Spiel.<br>
+	 * Eine Kopie wird wiederverwendet, solange die Karte unverändert ist; sonst wird sie ersetzt.
+	 */
+	private final Map<Card, PathCard> snapshotCards = new IdentityHashMap<>();
+	
+	/**
+	 * Abonniert die gebündelten Änderungen der Sitzung.<br>
+	 * Deltas werden am Ende jedes Zugs, bei der Auswahl einer Karte und vor sofortigen Ereignissen veröffentlicht.
+	 * Der Abonnent wird über den übergebenen Executor benachrichtigt, sodass er das Spiel nicht blockiert.
+	 * @param listener der Abonnent
+	 * @param executor der Executor, auf dem der Abonnent benachrichtigt wird
+	 */
+	public void subscribe(Consumer<TurnDelta> listener, Executor executor) {
+		eventBus.subscribe(listener, executor);
+	}
+	
+	/**
+	 * Beendet ein Abonnement.
+	 * @param listener der Abonnent
+	 * @see #subscribe(Consumer, Executor)
+	 */
+	public void unsubscribe(Consumer<TurnDelta> listener) {
+		eventBus.unsubscribe(listener);
+	}
+	
+	private void changed(Change change) {
+		pendingChanges.add(change);
+	}
+	
+	/**
+	 * Gibt den zuletzt veröffentlichten Schnappschuss des Spielzustands zurück.<br>
+	 * Darf von jedem Thread aufgerufen werden. Schnappschüsse werden nur erstellt, solange die Sitzung Abonnenten hat.
+	 * @return der Schnappschuss; vor dem Start des Spiels ein leerer Schnappschuss
+	 */
+	public GameSnapshot getSnapshot() {
+		return snapshot;
+	}
+	
+	/**
+	 * Veröffentlicht alle gesammelten Änderungen als ein {@link TurnDelta} mit einem neuen Schnappschuss.
+	 */
+	private void flushChanges() {
+		if (pendingChanges.isEmpty()) return;
+		unsnapshotChanges.addAll(pendingChanges);
+		if (eventBus.hasSubscribers()) {
+			snapshot = createSnapshot();
+			eventBus.publish(new TurnDelta(turnCount, pendingChanges, snapshot));
+		}
+		pendingChanges.clear();
+	}
+	
+	/**
+	 * Erstellt einen Schnappschuss. Unveränderte Teile werden aus dem letzten Schnappschuss übernommen.
+	 * @return der neue Schnappschuss
+	 */
+	private GameSnapshot createSnapshot() {
+		GameSnapshot last = snapshot;
+		boolean board = unsnapshotChanges.contains(Change.BOARD);
+		boolean piles = unsnapshotChanges.contains(Change.PILES);
+		boolean selection = board || unsnapshotChanges.contains(Change.SELECTED_CARD);
+		Set<Position> validPositions = last.getValidPositions();
+		if (selection)
+			validPositions = selectedCard != null && selectedCard.isPathCard()
+					? Set.copyOf(gameboard.getValidPositions((PathCard) selectedCard)) : Set.of();
+		GameSnapshot next = new GameSnapshot(turnCount,
+				board ? copyBoard() : last.getBoard(),
+				unsnapshotChanges.contains(Change.PLAYERS) ? GameSnapshot.copyPlayers(players, this::snapshotCopy) : last.getPlayerStates(),
+				getActivePlayer(), snapshotCopy(selectedCard), validPositions,
+				piles ? drawDeck.size() : last.getDrawDeckSize(),
+				piles ? List.copyOf(discardPile) : last.getDiscardPile());
+		unsnapshotChanges.clear();
+		return next;
+	}
+	
+	private Map<Position, PathCard> copyBoard() {
+		Map<Position, PathCard> board = new HashMap<>();
+		gameboard.getBoard().forEach((pos, card) -> board.put(pos, (PathCard) snapshotCopy(card)));
+		return Collections.unmodifiableMap(board);
+	}
+	
+	/**
+	 * Gibt die Kopie der übergebenen Karte für einen Schnappschuss zurück.<br>
+	 * Nur Wegekarten werden kopiert, da nur sie sich im Spiel verändern: Sie werden gedreht oder, als Zielkarte, aufgedeckt.
+	 * Die Benutzeroberfläche liest so nie eine Karte, die der besitzende Thread gleichzeitig verändert.
+	 * @param card die Karte im Spiel; oder null
+	 * @return die Kopie; Aktionskarten und null unverändert
+	 */
+	private Card snapshotCopy(Card card) {
+		if (card == null || !card.isPathCard()) return card;
+		PathCard copy = snapshotCards.get(card);
+		if (copy == null || !copy.equals(card)) {
+			copy = ((PathCard) card).copy();
+			snapshotCards.put(card, copy);
+		}
+		return copy;
+	}
+	
+	/**
+	 * Gibt an, ob die übergebene Karte aus einem Schnappschuss die aktuelle Kopie der Karte im Spiel ist.<br>
+	 * Damit ordnet ein {@link GameCommand} die Karten der Benutzeroberfläche den Karten im Spiel zu.
+	 * @param card die Karte im Spiel
+	 * @param copy die Karte aus einem Schnappschuss
+	 * @return {@code true} wenn {@code copy} die Karte im Schnappschuss darstellt; sonst {@code false}
+	 */
+	boolean isSnapshotCopy(Card card, Card copy) {
+		return snapshotCards.get(card) == copy;
+	}
+	
+}
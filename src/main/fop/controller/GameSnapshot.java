@@ -0,0 +1,209 @@
+package fop.controller;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import fop.model.Player;
+import fop.model.Player.Role;
+import fop.model.board.Position;
+import fop.model.cards.*;
+
+/**
+ *
+ * Ein unveränderlicher Schnappschuss des Spielzustands einer {@link GameSession}.<br>
+ * <br>
+ * Nur der Thread, der die Sitzung besitzt, verändert das Spiel. Alle anderen Threads, insbesondere die Benutzeroberfläche,
+ * lesen den Spielzustand ausschließlich aus Schnappschüssen. Ein Schnappschuss kopiert das Wegelabyrinth, die Stapel und
+ * den Zustand aller Spieler; Teile, die sich seit dem letzten Schnappschuss nicht geändert haben, werden wiederverwendet.
+ * Wegekarten werden als Kopien in ihrem damaligen Zustand übernommen, da der besitzende Thread sie dreht und aufdeckt;
+ * Befehle mit diesen Kopien ordnet {@link GameCommand} wieder den Karten im Spiel zu.
+ * @see GameSession#getSnapshot()
+ *
+ */
+public final class GameSnapshot {
+	
+	/** Der Schnappschuss vor dem Start des Spiels. */
+	static final GameSnapshot EMPTY = new GameSnapshot(0, Map.of(), Map.of(), null, null, Set.of(), 0, List.of());
+	
+	private final int turn;
+	private final Map<Position, PathCard> board;
+	private final Map<Player, PlayerState> players;
+	private final Player activePlayer;
+	private final Card selectedCard;
+	private final Set<Position> validPositions;
+	private final int drawDeckSize;
+	private final List<Card> discardPile;
+	
+	GameSnapshot(int turn, Map<Position, PathCard> board, Map<Player, PlayerState> players, Player activePlayer, Card selectedCard,
+			Set<Position> validPositions, int drawDeckSize, List<Card> discardPile) {
+		this.turn = turn;
+		this.board = board;
+		this.players = players;
+		this.activePlayer = activePlayer;
+		this.selectedCard = selectedCard;
+		this.validPositions = validPositions;
+		this.drawDeckSize = drawDeckSize;
+		this.discardPile = discardPile;
+	}
+	
+	/**
+	 * Gibt die Anzahl der bis zum Schnappschuss begonnenen Züge zurück.
+	 * @return die Nummer des Zugs
+	 */
+	public int getTurn() {
+		return turn;
+	}
+	
+	/**
+	 * Gibt alle Karten im Wegelabyrinth zurück.
+	 * @return die Karten nach ihren Positionen
+	 */
+	public Map<Position, PathCard> getBoard() {
+		return board;
+	}
+	
+	public PathCard getCardAt(Position pos) {
+		return board.get(pos);
+	}
+	
+	/**
+	 * Gibt den Zustand des übergebenen Spielers zurück.
+	 * @param player der Spieler
+	 * @return der Zustand des Spielers; oder null, wenn er nicht an der Sitzung teilnimmt
+	 */
+	public PlayerState getPlayerState(Player player) {
+		return players.get(player);
+	}
+	
+	Map<Player, PlayerState> getPlayerStates() {
+		return players;
+	}
+	
+	/**
+	 * Gibt den aktiven Spieler zurück.
+	 * @return der aktive Spieler; oder null, wenn niemand am Zug ist
+	 */
+	public Player getActivePlayer() {
+		return activePlayer;
+	}
+	
+	/**
+	 * Gibt an, ob der aktive Spieler ein zerbrochenes Werkzeug vor sich liegen hat.
+	 * @return {@code true} wenn niemand am Zug ist oder der aktive Spieler gesperrt ist; sonst {@code false}
+	 */
+	public boolean isActivePlayerBlocked() {
+		return activePlayer == null || players.get(activePlayer).hasBrokenTool();
+	}
+	
+	/**
+	 * Gibt die ausgewählte Karte zurück.
+	 * @return die ausgewählte Karte; oder null
+	 */
+	public Card getSelectedCard() {
+		return selectedCard;
+	}
+	
+	/**
+	 * Gibt alle Positionen zurück, an die die ausgewählte Wegekarte gelegt werden kann.
+	 * @return die gültigen Positionen; leer, wenn keine Wegekarte ausgewählt ist
+	 */
+	public Set<Position> getValidPositions() {
+		return validPositions;
+	}
+	
+	public int getDrawDeckSize() {
+		return drawDeckSize;
+	}
+	
+	public List<Card> getDiscardPile() {
+		return discardPile;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("GameSnapshot (%d, %d cards)", turn, board.size());
+	}
+	
+	
+	//////////////////
+	// PLAYER STATE //
+	//////////////////
+	
+	/**
+	 * Der unveränderliche Zustand eines Spielers in einem Schnappschuss.
+	 */
+	public static final class PlayerState {
+		
+		private final int score;
+		private final Role role;
+		private final List<Card> handCards;
+		private final List<BrokenToolCard> brokenTools;
+		
+		PlayerState(Player player, UnaryOperator<Card> copy) {
+			this.score = player.getScore();
+			this.role = player.getRole();
+			this.handCards = player.getAllHandCards().stream().map(copy).collect(Collectors.toUnmodifiableList());
+			this.brokenTools = List.copyOf(player.getBrokenTools());
+		}
+		
+		public int getScore() {
+			return score;
+		}
+		
+		public Role getRole() {
+			return role;
+		}
+		
+		public List<Card> getHandCards() {
+			return handCards;
+		}
+		
+		/**
+		 * @see Player#hasBrokenTool()
+		 */
+		public boolean hasBrokenTool() {
+			return !brokenTools.isEmpty();
+		}
+		
+		/**
+		 * @see Player#getBrokenTool(ToolType)
+		 */
+		public BrokenToolCard getBrokenTool(ToolType type) {
+			return brokenTools.stream().filter(card -> card.getToolType() == type).findFirst().orElse(null);
+		}
+		
+		/**
+		 * @see Player#canToolBeBroken(BrokenToolCard)
+		 */
+		public boolean canToolBeBroken(BrokenToolCard brokenToolCard) {
+			return getBrokenTool(brokenToolCard.getToolType()) == null;
+		}
+		
+		/**
+		 * @see Player#canBrokenToolBeFixed(BrokenToolCard, FixedToolCard)
+		 */
+		public boolean canBrokenToolBeFixed(BrokenToolCard brokenToolCard, FixedToolCard fixedToolCard) {
+			return brokenTools.contains(brokenToolCard) && fixedToolCard.canFix(brokenToolCard.getToolType());
+		}
+		
+	}
+	
+	/**
+	 * Kopiert die Zustände der übergebenen Spieler.
+	 * @param players die Spieler in ihrer Reihenfolge
+	 * @param copy liefert die Kopie einer Handkarte
+	 * @return die unveränderlichen Zustände nach Spielern
+	 */
+	static Map<Player, PlayerState> copyPlayers(List<Player> players, UnaryOperator<Card> copy) {
+		Map<Player, PlayerState> states = new LinkedHashMap<>();
+		for (Player player : players)
+			states.put(player, new PlayerState(player, copy));
+		return Collections.unmodifiableMap(states);
+	}
+	
+}
@@ -0,0 +1,340 @@
+package fop.controller;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Executor;
+
+import fop.controller.GameSession.CardDefinitions;
+import fop.model.Player;
+import fop.model.Player.Role;
+import fop.model.board.Gameboard;
+import fop.model.board.Position;
+import fop.model.cards.*;
+
+/**
+ *
+ * Speichert den vollständigen Zustand einer {@link GameSession} in einem kompakten, versionierten Binärformat
+ * und stellt ihn wieder her, etwa um ruhende Sitzungen auszulagern oder nach einem Absturz fortzusetzen.<br>
+ * <br>
+ * Jede Karte wird als {@code short} gespeichert: Aktions- und Wegekarten über ihre Position in den Kartendefinitionen,
+ * im obersten Bit die Drehung einer Wegekarte. Start- und Zielkarten haben eigene Kennungen, aufgedeckte Zielkarten
+ * zusätzlich die Masken ihrer Nachbarn (siehe {@link GoalCard#getNeighborMasks()}).
+ * Das Format in Version {@value #VERSION}:
+ * <pre>
+ * magic (2 Byte), Version (1 Byte), Startwert (long), Zug (int), aktiver Spieler (byte)
+ * Wegelabyrinth: Anzahl (short), je Karte x (short), y (short), Karte
+ * Spieler: Anzahl (byte), je Spieler Name (short + char), Computer (byte), Rolle (byte), Punkte (int),
+ *          Handkarten (byte + Karten), Werkzeuge (byte + Karten)
+ * ausgewählte Karte: Index in der Hand des aktiven Spielers (byte)
+ * Nachziehstapel, Ablagestapel: je Anzahl (short) + Karten, die oberste Karte zuletzt
+ * </pre>
+ * Kodieren und Dekodieren erzeugen außer den wiederhergestellten Objekten keine Zwischenobjekte.
+ * Nicht gespeichert werden der Zustand der Zufallsquellen und das Gedächtnis der Computerspieler;
+ * eine wiederhergestellte Sitzung zieht ihre Zufallszahlen neu aus dem gespeicherten Startwert.
+ * Ein Spielstand darf nur von dem Thread gespeichert werden, der die Sitzung besitzt.
+ *
+ */
+public final class GameStateCodec {
+	
+	/** Die ersten beiden Bytes jedes Spielstands. */
+	private static final short MAGIC = 0x5342;
+	
+	/** Die aktuelle Version des Formats. */
+	public static final byte VERSION = 1;
+	
+	// Kennungen von Karten
+	private static final short NO_CARD = 0;
+	private static final short START_CARD = 0x7FF0;
+	private static final short GOLD_CARD = 0x7FF1;
+	private static final short STONE_CARD = 0x7FF2;
+	private static final short ROTATED = (short) 0x8000;
+	
+	/** Kennzeichnet eine verdeckte Zielkarte anstelle der Masken ihrer Nachbarn. */
+	private static final byte COVERED = -1;
+	
+	private GameStateCodec() {}
+	
+	/**
+	 * Ordnet den eindeutigen Namen der Aktions- und Wegekarten ihre IDs zu.
+	 */
+	private static final class CardIds {
+		
+		private static final Map<String, Short> IDS = new HashMap<>();
+		
+		static {
+			short id = 1;
+			for (ActionCard card : CardDefinitions.ACTION_CARDS)
+				IDS.put(card.getName(), id++);
+			for (PathCard card : CardDefinitions.PATH_CARDS)
+				IDS.put(card.getName(), id++);
+		}
+		
+	}
+	
+	
+	////////////
+	// ENCODE //
+	////////////
+	
+	/**
+	 * Speichert den Zustand der übergebenen Sitzung.
+	 * @param session die Sitzung
+	 * @return der Spielstand
+	 */
+	public static byte[] encode(GameSession session) {
+		byte[] data = new byte[encodedSize(session)];
+		encode(session, ByteBuffer.wrap(data));
+		return data;
+	}
+	
+	/**
+	 * Schreibt den Zustand der übergebenen Sitzung in den übergebenen Puffer, ohne neue Objekte zu erzeugen.
+	 * @param session die Sitzung
+	 * @param buffer der Puffer mit mindestens {@link #encodedSize(GameSession)} freien Bytes
+	 * @throws java.nio.BufferOverflowException wenn der Puffer zu klein ist
+	 */
+	public static void encode(GameSession session, ByteBuffer buffer) {
+		encode(session, buffer, false);
+	}
+	
+	/**
+	 * Speichert den Zustand der übergebenen Sitzung als Schlüsselbild eines {@link MoveLog}.<br>
+	 * Ein Schlüsselbild entspricht dem Stand, den die Wiedergabe vor dem nächsten Zug erreicht: Es ist keine Karte ausgewählt
+	 * und jede Handkarte liegt so, wie sie gezogen wurde, da das Protokoll nur die Drehung der gespielten Karten enthält.
+	 * @param session die Sitzung
+	 * @return das Schlüsselbild
+	 */
+	static byte[] encodeKeyframe(GameSession session) {
+		byte[] data = new byte[encodedSize(session)];
+		encode(session, ByteBuffer.wrap(data), true);
+		return data;
+	}
+	
+	private static void encode(GameSession session, ByteBuffer buffer, boolean keyframe) {
+		buffer.putShort(MAGIC);
+		buffer.put(VERSION);
+		buffer.putLong(session.getSeed());
+		buffer.putInt(session.getTurnCount());
+		buffer.put((byte) session.getActivePlayerIndex());
+		
+		// board
+		Map<Position, PathCard> board = session.getGameboard().getBoard();
+		buffer.putShort((short) board.size());
+		for (Entry<Position, PathCard> entry : board.entrySet()) {
+			buffer.putShort((short) entry.getKey().x());
+			buffer.putShort((short) entry.getKey().y());
+			putCard(buffer, entry.getValue());
+		}
+		
+		// players
+		Player[] players = session.getPlayers();
+		buffer.put((byte) players.length);
+		for (Player player : players) {
+			String name = player.getName();
+			buffer.putShort((short) name.length());
+			for (int i = 0; i < name.length(); i++)
+				buffer.putChar(name.charAt(i));
+			buffer.put((byte) (player.isComputer() ? 1 : 0));
+			buffer.put((byte) (player.getRole() == null ? -1 : player.getRole().ordinal()));
+			buffer.putInt(player.getScore());
+			List<Card> handCards = player.getAllHandCards();
+			buffer.put((byte) handCards.size());
+			for (int i = 0; i < handCards.size(); i++)
+				putCard(buffer, handCards.get(i), keyframe && session.isRotatedSinceDrawn(handCards.get(i)));
+			putCards(buffer, player.getBrokenTools(), false);
+		}
+		Player activePlayer = session.getActivePlayer();
+		buffer.put((byte) (activePlayer == null || keyframe ? -1 : activePlayer.getAllHandCards().indexOf(session.getSelectedCard())));
+		
+		// piles
+		putCards(buffer, session.getDrawDeck(), true);
+		putCards(buffer, session.getDiscardPileCards(), true);
+	}
+	
+	/**
+	 * Berechnet die Größe des Spielstands der übergebenen Sitzung.
+	 * @param session die Sitzung
+	 * @return die Anzahl der Bytes
+	 */
+	public static int encodedSize(GameSession session) {
+		int size = 2 + 1 + 8 + 4 + 1;
+		size += 2;
+		for (PathCard card : session.getGameboard().getBoard().values())
+			size += 4 + (card.isGoalCard() ? 3 : 2);
+		size += 1;
+		for (Player player : session.getPlayers())
+			size += 2 + 2 * player.getName().length() + 1 + 1 + 4
+					+ 1 + 2 * player.getAllHandCards().size() + 1 + 2 * player.getBrokenTools().size();
+		size += 1;
+		size += 2 + 2 * session.getDrawDeck().size();
+		size += 2 + 2 * session.getDiscardPileCards().size();
+		return size;
+	}
+	
+	private static void putCards(ByteBuffer buffer, List<? extends Card> cards, boolean large) {
+		if (large)
+			buffer.putShort((short) cards.size());
+		else buffer.put((byte) cards.size());
+		for (int i = 0; i < cards.size(); i++)
+			putCard(buffer, cards.get(i));
+	}
+	
+	private static void putCard(ByteBuffer buffer, Card card) {
+		putCard(buffer, card, false);
+	}
+	
+	/**
+	 * Schreibt die übergebene Karte.
+	 * @param buffer der Puffer
+	 * @param card die Karte; oder null
+	 * @param flipRotation ob die Drehung einer Wegekarte umgekehrt gespeichert wird
+	 */
+	private static void putCard(ByteBuffer buffer, Card card, boolean flipRotation) {
+		if (card == null)
+			buffer.putShort(NO_CARD);
+		else if (card.isStartCard())
+			buffer.putShort(START_CARD);
+		else if (card.isGoalCard()) {
+			GoalCard goalCard = (GoalCard) card;
+			buffer.putShort(goalCard.getType() == GoalCard.Type.Gold ? GOLD_CARD : STONE_CARD);
+			buffer.put(goalCard.isCovered() ? COVERED : (byte) goalCard.getNeighborMasks());
+		} else {
+			Short id = CardIds.IDS.get(card.getName());
+			if (id == null) throw new IllegalArgumentException(String.format("The card '%s' has no id.", card.getName()));
+			boolean rotated = card.isPathCard() && ((PathCard) card).isRotated() != flipRotation;
+			buffer.putShort(rotated ? (short) (id | ROTATED) : id);
+		}
+	}
+	
+	
+	////////////
+	// DECODE //
+	////////////
+	
+	/**
+	 * Stellt eine Sitzung aus dem übergebenen Spielstand wieder her.
+	 * @param data der Spielstand
+	 * @param backgroundExecutor führt die Aufgaben der neuen Sitzung nacheinander aus
+	 * @param pacing die Verzögerungen zwischen den Schritten des Spiels
+	 * @return die wiederhergestellte Sitzung; mit {@link GameSession#resume()} wird das Spiel fortgesetzt
+	 * @throws IllegalArgumentException wenn die Daten kein gültiger Spielstand sind
+	 */
+	public static GameSession decode(byte[] data, Executor backgroundExecutor, Pacing pacing) {
+		return decode(ByteBuffer.wrap(data), backgroundExecutor, pacing);
+	}
+	
+	/**
+	 * Stellt eine Sitzung aus dem Spielstand im übergebenen Puffer wieder her.
+	 * @param buffer der Puffer, dessen Position am Anfang des Spielstands steht
+	 * @param backgroundExecutor führt die Aufgaben der neuen Sitzung nacheinander aus
+	 * @param pacing die Verzögerungen zwischen den Schritten des Spiels
+	 * @return die wiederhergestellte Sitzung; mit {@link GameSession#resume()} wird das Spiel fortgesetzt
+	 * @throws IllegalArgumentException wenn die Daten kein gültiger Spielstand sind
+	 */
+	public static GameSession decode(ByteBuffer buffer, Executor backgroundExecutor, Pacing pacing) {
+		return decode(buffer, backgroundExecutor, pacing, false);
+	}
+	
+	/**
+	 * Stellt eine Sitzung für die Wiedergabe aus einem Schlüsselbild wieder her.<br>
+	 * Die Sitzung führt ihre Aufgaben auf dem aufrufenden Thread aus, Computerspieler ziehen nicht selbst.
+	 * @param data der Spielstand
+	 * @return die wiederhergestellte Sitzung
+	 * @see GameReplay#seek(int)
+	 */
+	static GameSession decodeForReplay(byte[] data) {
+		return decode(ByteBuffer.wrap(data), Runnable::run, Pacing.NONE, true);
+	}
+	
+	private static GameSession decode(ByteBuffer buffer, Executor backgroundExecutor, Pacing pacing, boolean replay) {
+		try {
+			if (buffer.getShort() != MAGIC) throw new IllegalArgumentException("The data is not a game state.");
+			byte version = buffer.get();
+			if (version != VERSION) throw new IllegalArgumentException(String.format("Unsupported game state version %d.", version));
+			GameSession session = new GameSession(backgroundExecutor, pacing, buffer.getLong());
+			int turnCount = buffer.getInt();
+			int activePlayer = buffer.get();
+			
+			// board
+			Gameboard gameboard = session.getGameboard();
+			gameboard.clear();
+			for (int i = buffer.getShort(); i > 0; i--) {
+				int x = buffer.getShort();
+				int y = buffer.getShort();
+				gameboard.placeCard(x, y, (PathCard) getCard(buffer));
+			}
+			
+			// players
+			int playerCount = buffer.get();
+			for (int i = 0; i < playerCount; i++) {
+				char[] name = new char[buffer.getShort()];
+				for (int k = 0; k < name.length; k++)
+					name[k] = buffer.getChar();
+				if (replay)
+					session.addReplayPlayer(new String(name), buffer.get() != 0);
+				else session.addPlayer(new String(name), buffer.get() != 0);
+				Player player = session.getPlayers()[i];
+				int role = buffer.get();
+				if (role >= 0) player.assignRole(Role.values()[role]);
+				player.scorePoints(buffer.getInt());
+				for (int k = buffer.get(); k > 0; k--)
+					player.drawCard(getCard(buffer));
+				for (int k = buffer.get(); k > 0; k--)
+					player.breakTool((BrokenToolCard) getCard(buffer));
+			}
+			Player[] players = session.getPlayers();
+			int selectedIndex = buffer.get();
+			Card selectedCard = activePlayer >= 0 && selectedIndex >= 0 ? players[activePlayer].getAllHandCards().get(selectedIndex) : null;
+			
+			// piles
+			List<Card> drawDeck = getCards(buffer);
+			List<Card> discardPile = getCards(buffer);
+			
+			session.restore(drawDeck, discardPile, activePlayer, selectedCard, turnCount);
+			return session;
+		} catch (BufferUnderflowException | ClassCastException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("The game state is corrupt.", e);
+		}
+	}
+	
+	private static List<Card> getCards(ByteBuffer buffer) {
+		int count = buffer.getShort();
+		List<Card> cards = new ArrayList<>(count);
+		for (int i = 0; i < count; i++)
+			cards.add(getCard(buffer));
+		return cards;
+	}
+	
+	private static Card getCard(ByteBuffer buffer) {
+		short code = buffer.getShort();
+		switch (code) {
+			case NO_CARD:
+				return null;
+			case START_CARD:
+				return new StartCard();
+			case GOLD_CARD:
+			case STONE_CARD:
+				GoalCard goalCard = new GoalCard(code == GOLD_CARD ? GoalCard.Type.Gold : GoalCard.Type.Stone);
+				int masks = buffer.get() & 0xFF;
+				if (masks != (COVERED & 0xFF)) {
+					goalCard.showFront();
+					goalCard.generateGraph(masks & 0xF, masks >> 4);
+				}
+				return goalCard;
+			default:
+				int id = (code & ~ROTATED) - 1;
+				if (id < CardDefinitions.ACTION_CARDS.size())
+					return CardDefinitions.ACTION_CARDS.get(id);
+				PathCard definition = CardDefinitions.PATH_CARDS.get(id - CardDefinitions.ACTION_CARDS.size());
+				PathCard card = new PathCard(definition.getName(), definition.getShape());
+				if ((code & ROTATED) != 0) card.rotate();
+				return card;
+		}
+	}
+	
+}
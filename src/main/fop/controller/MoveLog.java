@@ -0,0 +1,341 @@
+package fop.controller;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import fop.model.Player;
+import fop.model.board.Position;
+import fop.model.cards.Card;
+import fop.model.cards.PathCard;
+
+/**
+ *
+ * Zeichnet alle angenommenen Züge einer {@link GameSession} kompakt auf.<br>
+ * <br>
+ * Zusammen mit dem Startwert der Sitzung und ihren Spielern legen die Züge den gesamten Spielverlauf fest,
+ * sodass {@link GameReplay} jedes Spiel ohne Benutzeroberfläche wiederherstellen kann.
+ * Das Protokoll wird nur am Ende erweitert. Jeder Zug beginnt mit einem Byte aus der {@link GameCommand.Type Art}
+ * und der Drehung der gespielten Karte; es folgen als Varint der Index der ausgewählten Handkarte und die Argumente
+ * des Befehls, Koordinaten im ZigZag-Format. Ein typischer Zug belegt zwei bis vier Bytes.<br>
+ * Alle {@value #KEYFRAME_INTERVAL} Züge wird zusätzlich ein Schlüsselbild mit dem vollständigen Spielstand
+ * (siehe {@link GameStateCodec}) und der Stelle des folgenden Zugs gespeichert. Damit erreicht
+ * {@link GameReplay#seek(int)} jeden Zug mit höchstens einem Schlüsselbild und weniger als {@value #KEYFRAME_INTERVAL} Zügen.<br>
+ * Züge werden vom Thread angehängt, der die Sitzung besitzt; gelesen werden darf von jedem Thread.
+ * @see GameSession#recordMoves()
+ *
+ */
+public final class MoveLog {
+	
+	/** Die ersten beiden Bytes jedes gespeicherten Protokolls. */
+	private static final short MAGIC = 0x4D4C;
+	
+	/** Die aktuelle Version des Formats. */
+	public static final byte VERSION = 2;
+	
+	/** Die Anzahl der Züge zwischen zwei Schlüsselbildern. */
+	public static final int KEYFRAME_INTERVAL = 64;
+	
+	/** Kennzeichnet im ersten Byte eines Zugs eine gedrehte Wegekarte. */
+	static final int ROTATED = 0x10;
+	
+	private final long seed;
+	private final String[] names;
+	private final boolean[] computers;
+	
+	private byte[] data = new byte[256];
+	private int length = 0;
+	private int moveCount = 0;
+	
+	// Schlüsselbilder vor den Zügen KEYFRAME_INTERVAL, 2 * KEYFRAME_INTERVAL, ...
+	private byte[][] keyframes = new byte[4][];
+	private int[] keyframeOffsets = new int[4];
+	private int keyframeCount = 0;
+	
+	/**
+	 * Erstellt ein leeres Protokoll.
+	 * @param seed der Startwert der Sitzung
+	 * @param names die Namen der Spieler in ihrer Reihenfolge
+	 * @param computers gibt für jeden Spieler an, ob er ein Computerspieler ist
+	 */
+	MoveLog(long seed, String[] names, boolean[] computers) {
+		this.seed = seed;
+		this.names = names;
+		this.computers = computers;
+	}
+	
+	/**
+	 * Erstellt ein leeres Protokoll für die übergebenen Spieler.
+	 * @param seed der Startwert der Sitzung
+	 * @param players die Spieler in ihrer Reihenfolge
+	 */
+	MoveLog(long seed, List<Player> players) {
+		this(seed, new String[players.size()], new boolean[players.size()]);
+		for (int i = 0; i < players.size(); i++) {
+			names[i] = players.get(i).getName();
+			computers[i] = players.get(i).isComputer();
+		}
+	}
+	
+	
+	////////////
+	// GETTER //
+	////////////
+	
+	public long getSeed() {
+		return seed;
+	}
+	
+	public int getPlayerCount() {
+		return names.length;
+	}
+	
+	public String getPlayerName(int index) {
+		return names[index];
+	}
+	
+	public boolean isComputer(int index) {
+		return computers[index];
+	}
+	
+	/**
+	 * Gibt die Anzahl der aufgezeichneten Züge zurück.
+	 * @return die Anzahl der Züge
+	 */
+	public synchronized int getMoveCount() {
+		return moveCount;
+	}
+	
+	/**
+	 * Gibt die Größe der aufgezeichneten Züge zurück.
+	 * @return die Anzahl der Bytes ohne Kopfdaten
+	 */
+	public synchronized int getLength() {
+		return length;
+	}
+	
+	/**
+	 * Gibt die bisher aufgezeichneten Züge zum Lesen zurück.<br>
+	 * Da nur am Ende geschrieben wird, bleiben die ersten {@link Moves#length} Bytes unverändert gültig.
+	 * @return die Züge
+	 */
+	synchronized Moves getMoves() {
+		return new Moves(data, length, moveCount, keyframes, keyframeOffsets, keyframeCount);
+	}
+	
+	/**
+	 * Ein unveränderlicher Ausschnitt der aufgezeichneten Züge und Schlüsselbilder.
+	 */
+	static final class Moves {
+		
+		final byte[] data;
+		final int length;
+		final int count;
+		
+		/** Das Schlüsselbild {@code i} enthält den Spielstand vor dem Zug {@code (i + 1) * KEYFRAME_INTERVAL}. */
+		final byte[][] keyframes;
+		
+		/** Die Stellen der Züge nach den Schlüsselbildern in {@link #data}. */
+		final int[] keyframeOffsets;
+		final int keyframeCount;
+		
+		private Moves(byte[] data, int length, int count, byte[][] keyframes, int[] keyframeOffsets, int keyframeCount) {
+			this.data = data;
+			this.length = length;
+			this.count = count;
+			this.keyframes = keyframes;
+			this.keyframeOffsets = keyframeOffsets;
+			this.keyframeCount = keyframeCount;
+		}
+		
+	}
+	
+	
+	////////////
+	// APPEND //
+	////////////
+	
+	/**
+	 * Hängt den übergebenen Befehl an, bevor er ausgeführt wird.<br>
+	 * Aufgezeichnet werden nur Befehle, die den Zug beenden; Auswahl und Drehung stecken im aufgezeichneten Zug.
+	 * @param session die Sitzung im Zustand vor dem Befehl
+	 * @param command der angenommene Befehl
+	 */
+	synchronized void append(GameSession session, GameCommand command) {
+		if (!command.endsTurn()) return;
+		if (moveCount > 0 && moveCount % KEYFRAME_INTERVAL == 0)
+			addKeyframe(GameStateCodec.encodeKeyframe(session), length);
+		ensureCapacity(16);
+		Player player = command.getPlayer();
+		Card selected = session.getSelectedCard();
+		GameCommand.Type type = command.getType();
+		boolean rotated = selected != null && selected.isPathCard() && ((PathCard) selected).isRotated();
+		data[length++] = (byte) (type.ordinal() | (rotated ? ROTATED : 0));
+		if (type != GameCommand.Type.DO_NOTHING)
+			putVarint(player.getAllHandCards().indexOf(selected));
+		switch (type) {
+			case PLACE_CARD:
+			case DESTROY_CARD:
+				putVarint(zigZag(command.getX()));
+				putVarint(zigZag(command.getY()));
+				break;
+			case FIX_TOOL:
+				putVarint(indexOf(session, command.getTarget()));
+				putVarint(command.getTarget().getBrokenTools().indexOf(command.getCard()));
+				break;
+			case BREAK_TOOL:
+				putVarint(indexOf(session, command.getTarget()));
+				break;
+			case LOOK_AT_GOAL_CARD:
+				for (Position pos : session.getGameboard().findGoalCard())
+					if (session.getGameboard().getBoard().get(pos) == command.getCard()) {
+						putVarint(zigZag(pos.x()));
+						putVarint(zigZag(pos.y()));
+						break;
+					}
+				break;
+			default:
+				break;
+		}
+		moveCount++;
+	}
+	
+	private static int indexOf(GameSession session, Player player) {
+		Player[] players = session.getPlayers();
+		for (int i = 0; i < players.length; i++)
+			if (players[i] == player) return i;
+		throw new IllegalArgumentException(String.format("The player %s does not take part in the session.", player.getName()));
+	}
+	
+	private void addKeyframe(byte[] keyframe, int offset) {
+		if (keyframeCount == keyframes.length) {
+			keyframes = Arrays.copyOf(keyframes, keyframeCount * 2);
+			keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeCount * 2);
+		}
+		keyframes[keyframeCount] = keyframe;
+		keyframeOffsets[keyframeCount++] = offset;
+	}
+	
+	private void ensureCapacity(int bytes) {
+		if (length + bytes > data.length)
+			data = Arrays.copyOf(data, Math.max(data.length * 2, length + bytes));
+	}
+	
+	private void putVarint(int value) {
+		while ((value & ~0x7F) != 0) {
+			data[length++] = (byte) (value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+		data[length++] = (byte) value;
+	}
+	
+	static int zigZag(int value) {
+		return value << 1 ^ value >> 31;
+	}
+	
+	static int unZigZag(int value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+	
+	/**
+	 * Liest einen Varint ab der übergebenen Stelle.
+	 * @param data die Daten
+	 * @param offset die Stelle, an der der Varint beginnt; enthält danach die Stelle hinter dem Varint
+	 * @return der gelesene Wert
+	 */
+	static int getVarint(byte[] data, int[] offset) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			byte b = data[offset[0]++];
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) return value;
+		}
+		throw new IllegalArgumentException("The move log contains an invalid number.");
+	}
+	
+	
+	///////////////////
+	// SERIALIZATION //
+	///////////////////
+	
+	/**
+	 * Speichert das Protokoll mit Startwert, Spielern und Schlüsselbildern.<br>
+	 * Die Schlüsselbilder folgen den Zügen, jeweils mit der Stelle des folgenden Zugs und ihrer Größe.
+	 * @return das gespeicherte Protokoll
+	 */
+	public synchronized byte[] toByteArray() {
+		int size = 2 + 1 + 8 + 1 + 4 + 4 + 4;
+		for (String name : names)
+			size += 2 + 2 * name.length() + 1;
+		for (int i = 0; i < keyframeCount; i++)
+			size += 4 + 4 + keyframes[i].length;
+		ByteBuffer buffer = ByteBuffer.allocate(size + length);
+		buffer.putShort(MAGIC);
+		buffer.put(VERSION);
+		buffer.putLong(seed);
+		buffer.put((byte) names.length);
+		for (int i = 0; i < names.length; i++) {
+			buffer.putShort((short) names[i].length());
+			for (int k = 0; k < names[i].length(); k++)
+				buffer.putChar(names[i].charAt(k));
+			buffer.put((byte) (computers[i] ? 1 : 0));
+		}
+		buffer.putInt(moveCount);
+		buffer.putInt(length);
+		buffer.put(data, 0, length);
+		buffer.putInt(keyframeCount);
+		for (int i = 0; i < keyframeCount; i++) {
+			buffer.putInt(keyframeOffsets[i]);
+			buffer.putInt(keyframes[i].length);
+			buffer.put(keyframes[i]);
+		}
+		return buffer.array();
+	}
+	
+	/**
+	 * Liest ein mit {@link #toByteArray()} gespeichertes Protokoll ein. Es kann danach weiter erweitert werden.
+	 * @param bytes das gespeicherte Protokoll
+	 * @return das Protokoll
+	 * @throws IllegalArgumentException wenn die Daten kein gültiges Protokoll sind
+	 */
+	public static MoveLog fromByteArray(byte[] bytes) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			if (buffer.getShort() != MAGIC) throw new IllegalArgumentException("The data is not a move log.");
+			byte version = buffer.get();
+			if (version != VERSION) throw new IllegalArgumentException(String.format("Unsupported move log version %d.", version));
+			long seed = buffer.getLong();
+			int playerCount = buffer.get();
+			String[] names = new String[playerCount];
+			boolean[] computers = new boolean[playerCount];
+			for (int i = 0; i < playerCount; i++) {
+				char[] name = new char[buffer.getShort()];
+				for (int k = 0; k < name.length; k++)
+					name[k] = buffer.getChar();
+				names[i] = new String(name);
+				computers[i] = buffer.get() != 0;
+			}
+			MoveLog log = new MoveLog(seed, names, computers);
+			log.moveCount = buffer.getInt();
+			log.length = buffer.getInt();
+			log.data = new byte[Math.max(log.length, 256)];
+			buffer.get(log.data, 0, log.length);
+			for (int i = buffer.getInt(); i > 0; i--) {
+				int offset = buffer.getInt();
+				byte[] keyframe = new byte[buffer.getInt()];
+				buffer.get(keyframe);
+				log.addKeyframe(keyframe, offset);
+			}
+			return log;
+		} catch (BufferUnderflowException | NegativeArraySizeException e) {
+			throw new IllegalArgumentException("The move log is corrupt.", e);
+		}
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("MoveLog (%d, %d moves)", seed, getMoveCount());
+	}
+	
+}
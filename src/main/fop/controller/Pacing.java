@@ -0,0 +1,65 @@
+package fop.controller;
+
+/**
+ *
+ * Legt fest, wie lange eine {@link GameSession} zwischen den Schritten des Spiels wartet,
+ * damit die Änderungen auf der Benutzeroberfläche sichtbar werden.<br>
+ * <br>
+ * Die Wartezeiten blockieren keinen Thread: Die Sitzung plant den nächsten Schritt mit der jeweiligen Verzögerung ein.
+ * Mit {@link #NONE} laufen alle Schritte ohne Verzögerung direkt hintereinander.
+ *
+ */
+public final class Pacing {
+	
+	/** Keine Verzögerungen, zum Beispiel für Simulationen oder Spiele nur mit Computerspielern. */
+	public static final Pacing NONE = new Pacing(0, 0);
+	
+	/** Die Verzögerungen der Benutzeroberfläche: eine Sekunde vor dem ersten Zug und 800 ms je Schritt eines Computerspielers. */
+	public static final Pacing DEFAULT = new Pacing(1000, 800);
+	
+	private final long startDelay;
+	private final long stepDelay;
+	
+	private Pacing(long startDelay, long stepDelay) {
+		this.startDelay = startDelay;
+		this.stepDelay = stepDelay;
+	}
+	
+	/**
+	 * Liefert eine Taktung mit den übergebenen Verzögerungen.
+	 * @param startDelay die Verzögerung vor dem ersten Zug in Millisekunden
+	 * @param stepDelay die Verzögerung vor jedem Schritt eines Computerspielers in Millisekunden
+	 * @return die Taktung
+	 * @throws IllegalArgumentException wenn eine Verzögerung negativ ist
+	 */
+	public static Pacing of(long startDelay, long stepDelay) {
+		if (startDelay < 0 || stepDelay < 0)
+			throw new IllegalArgumentException(String.format("The delays (%d, %d) must not be negative.", startDelay, stepDelay));
+		if (startDelay == 0 && stepDelay == 0)
+			return NONE;
+		return new Pacing(startDelay, stepDelay);
+	}
+	
+	/**
+	 * Gibt die Verzögerung vor dem ersten Zug zurück.
+	 * @return die Verzögerung in Millisekunden
+	 */
+	public long getStartDelay() {
+		return startDelay;
+	}
+	
+	/**
+	 * Gibt die Verzögerung vor jedem Schritt eines Computerspielers zurück,
+	 * also vor der Auswahl einer Karte und vor dem Ausspielen.
+	 * @return die Verzögerung in Millisekunden
+	 */
+	public long getStepDelay() {
+		return stepDelay;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("Pacing (%d ms, %d ms)", startDelay, stepDelay);
+	}
+	
+}
@@ -0,0 +1,101 @@
+package fop.controller;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import fop.model.Player;
+import fop.model.cards.Card;
+
+/**
+ *
+ * Fasst alle Änderungen einer {@link GameSession} seit der letzten Benachrichtigung zusammen.<br>
+ * <br>
+ * Statt für jede einzelne Änderung ein Ereignis zu senden, sammelt die Sitzung die Arten der Änderungen
+ * und veröffentlicht sie gebündelt, spätestens am Ende jedes Zugs.
+ * Ein Delta ist unveränderlich und enthält den {@link GameSnapshot Schnappschuss} des Spiels zum Zeitpunkt der Veröffentlichung.
+ *
+ */
+public final class TurnDelta {
+	
+	/**
+	 * Die Arten von Änderungen.
+	 */
+	public enum Change {
+		/** Ein anderer Spieler ist am Zug, oder gerade niemand. */
+		ACTIVE_PLAYER,
+		/** Eine andere Karte ist ausgewählt. */
+		SELECTED_CARD,
+		/** Karten wurden in das Wegelabyrinth gelegt, daraus entfernt oder aufgedeckt. */
+		BOARD,
+		/** Der Nachziehstapel oder der Ablagestapel hat sich verändert. */
+		PILES,
+		/** Handkarten, Werkzeuge, Rollen oder Punkte von Spielern haben sich verändert. */
+		PLAYERS
+	}
+	
+	private final int turn;
+	private final Set<Change> changes;
+	private final GameSnapshot snapshot;
+	
+	TurnDelta(int turn, Set<Change> changes, GameSnapshot snapshot) {
+		this.turn = turn;
+		this.changes = Collections.unmodifiableSet(EnumSet.copyOf(changes));
+		this.snapshot = snapshot;
+	}
+	
+	/**
+	 * Gibt die Anzahl der bis zur Veröffentlichung begonnenen Züge zurück.
+	 * @return die Nummer des Zugs
+	 * @see GameSession#getTurnCount()
+	 */
+	public int getTurn() {
+		return turn;
+	}
+	
+	public Set<Change> getChanges() {
+		return changes;
+	}
+	
+	/**
+	 * Gibt an, ob sich mindestens eine der übergebenen Arten geändert hat.
+	 * @param changes die gesuchten Arten von Änderungen
+	 * @return {@code true} wenn eine der Arten enthalten ist; sonst {@code false}
+	 */
+	public boolean containsAny(Change... changes) {
+		for (Change change : changes)
+			if (this.changes.contains(change))
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Gibt den aktiven Spieler zum Zeitpunkt der Veröffentlichung zurück.
+	 * @return der aktive Spieler; oder null, wenn niemand am Zug ist
+	 */
+	public Player getActivePlayer() {
+		return snapshot.getActivePlayer();
+	}
+	
+	/**
+	 * Gibt die ausgewählte Karte zum Zeitpunkt der Veröffentlichung zurück.
+	 * @return die ausgewählte Karte; oder null
+	 */
+	public Card getSelectedCard() {
+		return snapshot.getSelectedCard();
+	}
+	
+	/**
+	 * Gibt den Schnappschuss des Spiels zum Zeitpunkt der Veröffentlichung zurück.
+	 * @return der Schnappschuss
+	 */
+	public GameSnapshot getSnapshot() {
+		return snapshot;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("TurnDelta (%d, %s)", turn, changes);
+	}
+	
+}
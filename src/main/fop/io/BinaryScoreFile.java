@@ -0,0 +1,344 @@
+package fop.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+
+import fop.model.ScoreEntry;
+
+/**
+ *
+ * Speichert {@link ScoreEntry} Objekte als Datensätze fester Größe in einer Datei, die in den Speicher abgebildet wird.<br>
+ * <br>
+ * Jeder Datensatz besteht aus der ID des Namens (int), dem Zeitpunkt in Sekunden seit 1970 (long) und der Punktzahl (int).
+ * Die Datensätze sind absteigend nach Punktzahl sortiert; bei gleicher Punktzahl stehen sie in der Reihenfolge,
+ * in der sie hinzugefügt wurden. Dadurch lassen sich die besten Einträge lesen, ohne die Datei zu parsen,
+ * und neue Einträge werden per binärer Suche eingefügt. Die Namen stehen zeilenweise in einer zweiten Datei,
+ * die ID eines Namens ist seine Zeilennummer.<br>
+ * Der Zeitpunkt wird sekundengenau gespeichert.
+ * @see ScoreEntryIO
+ *
+ */
+public final class BinaryScoreFile implements Closeable {
+	
+	/** Die ersten vier Bytes der Datei: {@code HSB1}. */
+	private static final int MAGIC = 0x48534231;
+	
+	/** Die aktuelle Version des Formats. */
+	public static final int VERSION = 1;
+	
+	// Aufbau der Datei: magic, Version, Anzahl der Datensätze, reserviert
+	private static final int HEADER_SIZE = 16;
+	private static final int COUNT_OFFSET = 8;
+	
+	// Aufbau eines Datensatzes
+	private static final int RECORD_SIZE = 16;
+	private static final int NAME_OFFSET = 0;
+	private static final int TIME_OFFSET = 4;
+	private static final int SCORE_OFFSET = 12;
+	
+	/** Die Anzahl der Datensätze, für die eine neue Datei anfangs Platz bietet. */
+	private static final int INITIAL_CAPACITY = 1024;
+	
+	private final FileChannel channel;
+	private MappedByteBuffer buffer;
+	private int capacity;
+	private int count;
+	
+	private final Path namesFile;
+	private final List<String> names = new ArrayList<>();
+	private final Map<String, Integer> nameIds = new HashMap<>();
+	
+	private BinaryScoreFile(FileChannel channel, Path namesFile) {
+		this.channel = channel;
+		this.namesFile = namesFile;
+	}
+	
+	/**
+	 * Öffnet die übergebene Datei oder legt sie an.
+	 * @param file die Datei mit den Datensätzen
+	 * @param namesFile die Datei mit den Namen
+	 * @return die geöffnete Datei
+	 * @throws IOException wenn die Datei nicht gelesen werden kann oder kein gültiges Format hat
+	 */
+	public static BinaryScoreFile open(Path file, Path namesFile) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		BinaryScoreFile scoreFile = new BinaryScoreFile(channel, namesFile);
+		try {
+			scoreFile.load();
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+		return scoreFile;
+	}
+	
+	/**
+	 * Liest die Kopfdaten und die Namen.
+	 * @throws IOException wenn die Datei nicht gelesen werden kann oder kein gültiges Format hat
+	 */
+	private void load() throws IOException {
+		long size = channel.size();
+		if (size == 0) {
+			map(INITIAL_CAPACITY);
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, VERSION);
+			buffer.putInt(COUNT_OFFSET, 0);
+			buffer.force();
+		} else {
+			if (size < HEADER_SIZE) throw new IOException("The highscore file is truncated.");
+			map((int) ((size - HEADER_SIZE) / RECORD_SIZE));
+			if (buffer.getInt(0) != MAGIC) throw new IOException("The file is not a highscore file.");
+			if (buffer.getInt(4) != VERSION) throw new IOException(String.format("Unsupported highscore file version %d.", buffer.getInt(4)));
+			count = buffer.getInt(COUNT_OFFSET);
+			if (count < 0 || count > capacity) throw new IOException("The highscore file is corrupt.");
+		}
+		if (Files.exists(namesFile))
+			for (String name : Files.readAllLines(namesFile, StandardCharsets.UTF_8)) {
+				nameIds.putIfAbsent(name, names.size());
+				names.add(name);
+			}
+	}
+	
+	/**
+	 * Bildet die Datei mit Platz für die übergebene Anzahl an Datensätzen in den Speicher ab.
+	 * @param capacity die Anzahl der Datensätze
+	 * @throws IOException wenn die Datei nicht vergrößert werden kann
+	 */
+	private void map(int capacity) throws IOException {
+		this.capacity = capacity;
+		buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+	}
+	
+	/**
+	 * Liest alle gültigen Einträge der übergebenen Textdatei einmalig in eine neue Binärdatei ein.
+	 * @param textFile die Textdatei im Format von {@link ScoreEntry#read(String)}, gelesen wie mit {@link ScoreEntryIO#readTextFile(Path)}
+	 * @param file die neue Datei mit den Datensätzen; eine vorhandene Datei wird überschrieben
+	 * @param namesFile die neue Datei mit den Namen; eine vorhandene Datei wird überschrieben
+	 * @return die geöffnete Binärdatei
+	 * @throws IOException wenn eine der Dateien nicht gelesen oder geschrieben werden kann
+	 */
+	public static BinaryScoreFile importTextFile(Path textFile, Path file, Path namesFile) throws IOException {
+		List<ScoreEntry> scoreEntries = ScoreEntryIO.readTextFile(textFile);
+		Files.deleteIfExists(file);
+		Files.deleteIfExists(namesFile);
+		BinaryScoreFile scoreFile = open(file, namesFile);
+		scoreFile.replaceAll(scoreEntries);
+		return scoreFile;
+	}
+	
+	
+	////////////
+	// GETTER //
+	////////////
+	
+	/**
+	 * Gibt die Anzahl der Einträge zurück.
+	 * @return die Anzahl der Datensätze
+	 */
+	public synchronized int size() {
+		return count;
+	}
+	
+	/**
+	 * Gibt den Eintrag mit dem übergebenen Rang zurück.
+	 * @param rank der Rang, beginnend bei 0 für die höchste Punktzahl
+	 * @return der Eintrag
+	 * @throws IndexOutOfBoundsException wenn es den Rang nicht gibt
+	 */
+	public synchronized ScoreEntry get(int rank) {
+		int position = HEADER_SIZE + Objects.checkIndex(rank, count) * RECORD_SIZE;
+		return new ScoreEntry(names.get(buffer.getInt(position + NAME_OFFSET)),
+				LocalDateTime.ofEpochSecond(buffer.getLong(position + TIME_OFFSET), 0, ZoneOffset.UTC),
+				buffer.getInt(position + SCORE_OFFSET));
+	}
+	
+	/**
+	 * Gibt die Einträge mit den Rängen {@code from} bis ausschließlich {@code to} zurück.
+	 * @param from der erste Rang
+	 * @param to der Rang hinter dem letzten Eintrag; höchstens {@link #size()}
+	 * @return die Einträge in absteigender Reihenfolge
+	 */
+	public synchronized List<ScoreEntry> getRange(int from, int to) {
+		Objects.checkFromToIndex(from, to, count);
+		List<ScoreEntry> scoreEntries = new ArrayList<>(to - from);
+		for (int rank = from; rank < to; rank++)
+			scoreEntries.add(get(rank));
+		return scoreEntries;
+	}
+	
+	/**
+	 * Gibt die besten Einträge zurück.
+	 * @param n die höchste Anzahl an Einträgen
+	 * @return die Einträge in absteigender Reihenfolge
+	 */
+	public synchronized List<ScoreEntry> top(int n) {
+		return getRange(0, Math.min(n, count));
+	}
+	
+	/**
+	 * Übergibt Name und Punktzahl aller Einträge in absteigender Reihenfolge,
+	 * ohne {@link ScoreEntry} Objekte zu erzeugen oder Zeitpunkte zu lesen.
+	 * @param action erhält Name und Punktzahl jedes Eintrags
+	 */
+	public synchronized void forEachScore(ObjIntConsumer<String> action) {
+		for (int rank = 0; rank < count; rank++)
+			action.accept(names.get(buffer.getInt(HEADER_SIZE + rank * RECORD_SIZE + NAME_OFFSET)), getScore(rank));
+	}
+	
+	private int getScore(int rank) {
+		return buffer.getInt(HEADER_SIZE + rank * RECORD_SIZE + SCORE_OFFSET);
+	}
+	
+	
+	///////////
+	// WRITE //
+	///////////
+	
+	/**
+	 * Fügt die übergebenen Einträge an der korrekten Stelle ein und schreibt die Änderungen gemeinsam auf den Datenträger.<br>
+	 * Wenn ein Eintrag dieselbe Punktzahl wie ein vorhandener hat, wird er danach eingefügt.
+	 * Neue Namen werden zuerst geschrieben, die Anzahl der Datensätze zuletzt; schlägt das Schreiben der Namen fehl,
+	 * bleiben alle Einträge unverändert.
+	 * @param scoreEntries die einzufügenden Einträge
+	 * @throws IOException wenn die Datei nicht geschrieben werden kann
+	 */
+	public synchronized void add(List<ScoreEntry> scoreEntries) throws IOException {
+		insert(scoreEntries, count);
+	}
+	
+	/**
+	 * Ersetzt alle Einträge durch die übergebenen.<br>
+	 * Schlägt das Schreiben der Namen fehl, bleiben die bisherigen Einträge erhalten.
+	 * @param scoreEntries die neuen Einträge in beliebiger Reihenfolge
+	 * @throws IOException wenn die Datei nicht geschrieben werden kann
+	 */
+	public synchronized void replaceAll(List<ScoreEntry> scoreEntries) throws IOException {
+		List<ScoreEntry> sorted = new ArrayList<>(scoreEntries);
+		sorted.sort(Comparator.<ScoreEntry>naturalOrder().reversed());
+		// sorted entries are appended at the end, so no records are shifted
+		insert(sorted, 0);
+	}
+	
+	/**
+	 * Fügt die übergebenen Einträge an der korrekten Stelle unter den ersten {@code size} Datensätzen ein; alle weiteren entfallen.
+	 * @param scoreEntries die einzufügenden Einträge
+	 * @param size die Anzahl der Datensätze, die erhalten bleiben
+	 * @throws IOException wenn die Datei nicht geschrieben werden kann
+	 * @see #add(List)
+	 */
+	private void insert(List<ScoreEntry> scoreEntries, int size) throws IOException {
+		if (scoreEntries.isEmpty() && size == count) return;
+		if (size + scoreEntries.size() > capacity)
+			map(Math.max(capacity * 2, size + scoreEntries.size()));
+		int[] ids = writeNames(scoreEntries);
+		for (int i = 0; i < scoreEntries.size(); i++) {
+			ScoreEntry scoreEntry = scoreEntries.get(i);
+			int rank = insertionPoint(scoreEntry.getScore(), size);
+			int position = HEADER_SIZE + rank * RECORD_SIZE;
+			// shift all lower records by one; the source is copied as if through a temporary buffer
+			ByteBuffer tail = buffer.duplicate();
+			tail.position(position).limit(HEADER_SIZE + size * RECORD_SIZE);
+			ByteBuffer target = buffer.duplicate();
+			target.position(position + RECORD_SIZE);
+			target.put(tail);
+			// write the new record
+			buffer.putInt(position + NAME_OFFSET, ids[i]);
+			buffer.putLong(position + TIME_OFFSET, scoreEntry.getDateTime().toEpochSecond(ZoneOffset.UTC));
+			buffer.putInt(position + SCORE_OFFSET, scoreEntry.getScore());
+			size++;
+		}
+		count = size;
+		buffer.putInt(COUNT_OFFSET, count);
+		buffer.force();
+	}
+	
+	/**
+	 * Sucht binär die Stelle hinter allen Einträgen mit mindestens der übergebenen Punktzahl.
+	 * @param score die Punktzahl
+	 * @param size die Anzahl der bereits sortierten Datensätze
+	 * @return der Rang, an dem ein Eintrag mit der Punktzahl eingefügt wird
+	 */
+	private int insertionPoint(int score, int size) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (getScore(mid) >= score)
+				low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+	
+	/**
+	 * Vergibt die IDs der Namen aller übergebenen Einträge und hängt unbekannte Namen an die Datei der Namen an.<br>
+	 * Schlägt das Schreiben fehl, werden die neuen Namen wieder vergessen und die Datei auf ihre alte Länge gekürzt.
+	 * @param scoreEntries die Einträge
+	 * @return die IDs der Namen in der Reihenfolge der Einträge
+	 * @throws IOException wenn die Datei der Namen nicht geschrieben werden kann
+	 */
+	private int[] writeNames(List<ScoreEntry> scoreEntries) throws IOException {
+		long length = Files.exists(namesFile) ? Files.size(namesFile) : 0;
+		int known = names.size();
+		int[] ids = new int[scoreEntries.size()];
+		for (int i = 0; i < ids.length; i++)
+			ids[i] = nameId(scoreEntries.get(i).getName());
+		List<String> newNames = names.subList(known, names.size());
+		if (newNames.isEmpty()) return ids;
+		try {
+			Files.write(namesFile, newNames, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+					StandardOpenOption.SYNC);
+		} catch (IOException e) {
+			newNames.forEach(nameIds::remove);
+			newNames.clear();
+			try (FileChannel namesChannel = FileChannel.open(namesFile, StandardOpenOption.WRITE)) {
+				namesChannel.truncate(length);
+			} catch (IOException suppressed) {
+				e.addSuppressed(suppressed);
+			}
+			throw e;
+		}
+		return ids;
+	}
+	
+	/**
+	 * Gibt die ID des übergebenen Namens zurück und vergibt für unbekannte Namen eine neue.
+	 * @param name der Name
+	 * @return die ID
+	 */
+	private int nameId(String name) {
+		Integer id = nameIds.get(name);
+		if (id != null) return id;
+		nameIds.put(name, names.size());
+		names.add(name);
+		return names.size() - 1;
+	}
+	
+	@Override
+	public synchronized void close() throws IOException {
+		buffer.force();
+		channel.close();
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("BinaryScoreFile (%d entries)", size());
+	}
+	
+}
@@ -9,8 +9,8 @@ import java.util.LinkedList;
 import java.util.List;
 
 import fop.model.cards.CardAnchor;
+import fop.model.cards.CardShape;
 import fop.model.cards.PathCard;
-import fop.model.graph.Graph;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import org.w3c.dom.Document;
@@ -95,7 +95,8 @@ public final class PathCardReader {
 			int count = card.hasAttribute("count") ? Integer.parseInt(card.getAttribute("count")) : 1;
 			
 			// parse nodes and edges
-			Graph<CardAnchor> graph = new Graph<>();
+			int anchorMask = 0;
+			int edgeMask = 0;
 			NodeList features = card.getChildNodes();
 			for (int j = 0; j < features.getLength(); j++) {
 				if (features.item(j).getNodeType() != Node.ELEMENT_NODE) continue;
@@ -104,23 +105,25 @@ public final class PathCardReader {
 				// parse node
 				if (feature.getTagName().equals("node")) {
 					CardAnchor value = CardAnchor.valueOf(feature.getAttribute("value"));
-					graph.addVertex(value);
+					anchorMask |= value.getMask();
 				}
 				
 				// parse edge
 				else if (feature.getTagName().equals("edge")) {
 					CardAnchor start = CardAnchor.valueOf(feature.getAttribute("start"));
 					CardAnchor end = CardAnchor.valueOf(feature.getAttribute("end"));
-					graph.addEdge(start, end);
+					anchorMask |= start.getMask() | end.getMask();
+					edgeMask |= CardShape.getEdgeBit(start, end);
 				}
 				
 				// unknown feature
 				else throw new IllegalArgumentException(String.format("A feature of a card must be 'node' or 'edge', not: '%s'", feature.getTagName()));
 			}
 			
-			// add card to path cards
+			// add card to path cards, all copies share the same immutable shape
+			CardShape shape = CardShape.of(anchorMask, edgeMask);
 			for (int k = 0; k < count; k++)
-				pathCards.add(new PathCard(String.format("%s_%d", name, k + 1), graph));
+				pathCards.add(new PathCard(String.format("%s_%d", name, k + 1), shape));
 		}
 		
 		// return all path cards
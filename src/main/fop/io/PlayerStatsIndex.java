@@ -0,0 +1,82 @@
+package fop.io;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import fop.model.PlayerStats;
+
+/**
+ *
+ * Hält die {@link PlayerStats} aller Spieler und zwei danach sortierte Ranglisten.<br>
+ * <br>
+ * Jeder neue Highscore-Eintrag aktualisiert die Statistik seines Spielers und dessen Platz in den Ranglisten.
+ * Die Statistik eines Spielers wird in konstanter Zeit gelesen, die besten {@code n} Spieler einer Rangliste
+ * in {@code O(log n + n)}, ohne alle Einträge zu durchlaufen.
+ * @see ScoreEntryIO#getPlayerStats(String)
+ *
+ */
+final class PlayerStatsIndex {
+	
+	/** Absteigend nach Durchschnitt, bei Gleichstand nach Namen. */
+	private static final Comparator<PlayerStats> BY_AVERAGE = Comparator.comparingDouble(PlayerStats::getAverageScore).reversed()
+			.thenComparing(PlayerStats::getName);
+	
+	/** Absteigend nach Summe, bei Gleichstand nach Namen. */
+	private static final Comparator<PlayerStats> BY_TOTAL = Comparator.comparingLong(PlayerStats::getTotalScore).reversed()
+			.thenComparing(PlayerStats::getName);
+	
+	private final Map<String, PlayerStats> stats = new HashMap<>();
+	private final TreeSet<PlayerStats> byAverage = new TreeSet<>(BY_AVERAGE);
+	private final TreeSet<PlayerStats> byTotal = new TreeSet<>(BY_TOTAL);
+	
+	/**
+	 * Nimmt ein Spiel des übergebenen Spielers auf.
+	 * @param name der Name des Spielers
+	 * @param score die erreichte Punktzahl
+	 */
+	void add(String name, int score) {
+		PlayerStats old = stats.get(name);
+		PlayerStats next;
+		if (old == null)
+			next = new PlayerStats(name, score);
+		else {
+			byAverage.remove(old);
+			byTotal.remove(old);
+			next = old.add(score);
+		}
+		stats.put(name, next);
+		byAverage.add(next);
+		byTotal.add(next);
+	}
+	
+	/**
+	 * Gibt die Statistik des übergebenen Spielers zurück.
+	 * @param name der Name des Spielers
+	 * @return die Statistik; oder null, wenn es keinen Eintrag des Spielers gibt
+	 */
+	PlayerStats get(String name) {
+		return stats.get(name);
+	}
+	
+	List<PlayerStats> topByAverage(int n) {
+		return top(byAverage, n);
+	}
+	
+	List<PlayerStats> topByTotal(int n) {
+		return top(byTotal, n);
+	}
+	
+	private static List<PlayerStats> top(TreeSet<PlayerStats> ranking, int n) {
+		List<PlayerStats> top = new ArrayList<>(Math.min(n, ranking.size()));
+		Iterator<PlayerStats> iterator = ranking.iterator();
+		while (top.size() < n && iterator.hasNext())
+			top.add(iterator.next());
+		return top;
+	}
+	
+}
@@ -1,22 +1,55 @@
 package fop.io;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import fop.model.PlayerStats;
 import fop.model.ScoreEntry;
 
 /**
- * 
+ *
  * Wird genutzt, um {@link ScoreEntry} Objekte zu schreiben und zu lesen.<br>
  * <br>
  * Es handelt sich um die Datei {@value #PATH}.<br>
  * Mit {@link #loadScoreEntries()} werden die Elemente gelesen.<br>
- * Mit {@link #writeScoreEntries(List)} werden die Elemente geschrieben.
+ * Mit {@link #writeScoreEntries(List)} werden die Elemente geschrieben.<br>
+ * <br>
+ * Die Datei wird nur beim ersten Zugriff gelesen; danach liegen alle Einträge absteigend sortiert im Speicher.
+ * Neue Einträge mit {@link #addScoreEntry(ScoreEntry)} oder {@link #addScoreEntries(List)} werden nur an das Ende
+ * der Datei angehängt, sodass sie dort zwischenzeitlich unsortiert stehen. Nach {@value #COMPACTION_THRESHOLD}
+ * angehängten Einträgen schreibt ein Hintergrund-Thread die Datei sortiert neu und ersetzt sie in einem Schritt.<br>
+ * Mit {@link #addScoreEntriesInBackground(List)} werden die Einträge eines Spiels auf diesem Thread gespeichert,
+ * ohne den aufrufenden Thread durch Dateizugriffe aufzuhalten.<br>
+ * <br>
+ * Hat die Systemeigenschaft {@value #FORMAT_PROPERTY} den Wert {@code binary}, werden die Einträge stattdessen
+ * in der {@link BinaryScoreFile} {@value #BINARY_PATH} gespeichert. Existiert sie noch nicht,
+ * wird sie beim ersten Zugriff einmalig aus der Datei {@value #PATH} erstellt.<br>
+ * <br>
+ * Die Statistiken der Spieler ({@link #getPlayerStats(String)}) und die Ranglisten nach Durchschnitt und Summe
+ * werden beim ersten Bedarf einmal berechnet und danach bei jedem neuen Eintrag aktualisiert.<br>
+ * <br>
+ * Die Textdatei wird in der Zeichenkodierung {@link #CHARSET} geschrieben. Ältere Versionen haben die Kodierung
+ * des Systems benutzt; eine solche Datei wird beim ersten Lesen erkannt und einmalig umgeschrieben, siehe {@link #readTextFile(Path)}.
+ * Kann die Datei nicht gelesen, ein neuer Eintrag nicht gespeichert oder die gewählte Binärdatei nicht geöffnet werden,
+ * wird eine {@link UncheckedIOException} geworfen.
  *
  */
 public final class ScoreEntryIO {
@@ -24,66 +57,435 @@ public final class ScoreEntryIO {
 	/** Der Pfad zur ScoreEntry Datei */
 	private static String PATH = "highscores.txt";
 	
+	/** Die Zeichenkodierung der Datei {@value #PATH}. */
+	static final Charset CHARSET = StandardCharsets.UTF_8;
+	
+	/** Die Zeichenkodierung des Systems, in der ältere Versionen die Datei {@value #PATH} geschrieben haben. */
+	private static final Charset LEGACY_CHARSET = Charset.forName(System.getProperty("native.encoding", Charset.defaultCharset().name()));
+	
+	/** Die Systemeigenschaft, mit der das Format der Highscores gewählt wird. */
+	private static final String FORMAT_PROPERTY = "fop.highscores";
+	
+	/** Der Pfad zur Binärdatei und zur Datei mit ihren Namen */
+	private static String BINARY_PATH = "highscores.bin";
+	private static String NAMES_PATH = "highscores.names";
+	
+	/** Die Binärdatei; oder null, wenn die Textdatei benutzt wird. */
+	private static BinaryScoreFile binaryFile = null;
+	private static boolean formatChosen = false;
+	
+	/** Die Anzahl angehängter Einträge, nach der die Datei im Hintergrund sortiert neu geschrieben wird. */
+	private static final int COMPACTION_THRESHOLD = 64;
+	
+	/** Absteigend nach Punktzahl, bei gleicher Punktzahl stabil. */
+	private static final Comparator<ScoreEntry> ORDER = Comparator.<ScoreEntry>naturalOrder().reversed();
+	
+	/** Schützt den Index und alle Zugriffe auf die Datei. */
+	private static final Object LOCK = new Object();
+	
+	/** Alle gültigen Einträge, absteigend sortiert; oder null, solange die Datei noch nicht gelesen wurde. */
+	private static List<ScoreEntry> index = null;
+	
+	/** Die Statistiken aller Spieler; oder null, solange sie nicht gebraucht wurden. */
+	private static PlayerStatsIndex playerStats = null;
+	
+	/** Die Einträge, die seit Beginn der letzten Verdichtung angehängt wurden. */
+	private static final List<ScoreEntry> appended = new ArrayList<>();
+	
+	/** Gibt an, ob eine Verdichtung eingeplant ist oder läuft. */
+	private static boolean compacting = false;
+	
+	/** Wird bei jedem vollständigen Neuschreiben erhöht, damit eine laufende Verdichtung es nicht überschreibt. */
+	private static int generation = 0;
+	
 	private ScoreEntryIO() {}
 	
 	/**
 	 * Liest eine Liste von {@link ScoreEntry} Objekten aus der Datei {@value #PATH}.<br>
-	 * Die Liste enthält die Elemente in der Reihenfolge, in der sie in der Datei vorkommen.<br>
+	 * Die Liste ist absteigend sortiert; Einträge mit derselben Punktzahl stehen in der Reihenfolge, in der sie hinzugefügt wurden.<br>
 	 * Ungültige Einträge werden nicht zurückgegeben.
 	 * @return die ScoreEntry Objekte
 	 */
 	public static List<ScoreEntry> loadScoreEntries() {
-		String line;
-		List<ScoreEntry> scoreList = new ArrayList<ScoreEntry>();
-		try {
-			BufferedReader reader = new BufferedReader(new FileReader(PATH));
-			while((line = reader.readLine()) != null) {
-				ScoreEntry scoreLine = ScoreEntry.read(line);
-				if(scoreLine != null)
-					scoreList.add(scoreLine);
+		synchronized (LOCK) {
+			BinaryScoreFile binaryFile = getBinaryFile();
+			if (binaryFile != null) return binaryFile.getRange(0, binaryFile.size());
+			return new ArrayList<>(getIndex());
+		}
+	}
+	
+	/**
+	 * Liest die besten {@link ScoreEntry} Objekte, ohne alle Einträge zu kopieren.
+	 * @param n die höchste Anzahl an Einträgen
+	 * @return die ScoreEntry Objekte, absteigend sortiert
+	 * @see #loadScoreEntries()
+	 */
+	public static List<ScoreEntry> loadTopScoreEntries(int n) {
+		synchronized (LOCK) {
+			BinaryScoreFile binaryFile = getBinaryFile();
+			if (binaryFile != null) return binaryFile.top(n);
+			List<ScoreEntry> index = getIndex();
+			return new ArrayList<>(index.subList(0, Math.min(n, index.size())));
+		}
+	}
+	
+	/**
+	 * Liest die {@link ScoreEntry} Objekte mit den Rängen {@code from} bis ausschließlich {@code to},
+	 * zum Beispiel die sichtbaren Zeilen einer Tabelle.
+	 * @param from der erste Rang, beginnend bei 0 für die höchste Punktzahl
+	 * @param to der Rang hinter dem letzten Eintrag
+	 * @return die ScoreEntry Objekte, absteigend sortiert; weniger, wenn es nicht so viele Einträge gibt
+	 * @see #getScoreEntryCount()
+	 */
+	public static List<ScoreEntry> loadScoreEntries(int from, int to) {
+		synchronized (LOCK) {
+			BinaryScoreFile binaryFile = getBinaryFile();
+			int size = binaryFile != null ? binaryFile.size() : getIndex().size();
+			to = Math.min(to, size);
+			from = Math.min(from, to);
+			if (binaryFile != null) return binaryFile.getRange(from, to);
+			return new ArrayList<>(getIndex().subList(from, to));
+		}
+	}
+	
+	/**
+	 * Gibt die Anzahl aller gültigen Einträge zurück. Beim ersten Zugriff wird dazu die Datei gelesen.
+	 * @return die Anzahl der Einträge
+	 */
+	public static int getScoreEntryCount() {
+		synchronized (LOCK) {
+			BinaryScoreFile binaryFile = getBinaryFile();
+			return binaryFile != null ? binaryFile.size() : getIndex().size();
+		}
+	}
+	
+	// player stats //
+	
+	/**
+	 * Gibt die zusammengefasste Statistik aller Einträge des übergebenen Spielers zurück.
+	 * @param name der Name des Spielers
+	 * @return die Statistik; oder null, wenn es keinen Eintrag des Spielers gibt
+	 */
+	public static PlayerStats getPlayerStats(String name) {
+		synchronized (LOCK) {
+			return getPlayerStatsIndex().get(name);
+		}
+	}
+	
+	/**
+	 * Gibt die Spieler mit dem höchsten Durchschnitt ihrer Punktzahlen zurück.
+	 * @param n die höchste Anzahl an Spielern
+	 * @return die Statistiken der Spieler, absteigend nach Durchschnitt sortiert
+	 */
+	public static List<PlayerStats> loadLeaderboardByAverage(int n) {
+		synchronized (LOCK) {
+			return getPlayerStatsIndex().topByAverage(n);
+		}
+	}
+	
+	/**
+	 * Gibt die Spieler mit der höchsten Summe ihrer Punktzahlen zurück.
+	 * @param n die höchste Anzahl an Spielern
+	 * @return die Statistiken der Spieler, absteigend nach Summe sortiert
+	 */
+	public static List<PlayerStats> loadLeaderboardByTotal(int n) {
+		synchronized (LOCK) {
+			return getPlayerStatsIndex().topByTotal(n);
+		}
+	}
+	
+	/**
+	 * Gibt die Statistiken aller Spieler zurück und erstellt sie dazu beim ersten Aufruf mit einem Durchlauf
+	 * über alle Einträge. Danach werden sie bei jedem neuen Eintrag aktualisiert.
+	 * @return die Statistiken
+	 */
+	private static PlayerStatsIndex getPlayerStatsIndex() {
+		if (playerStats == null) {
+			PlayerStatsIndex stats = new PlayerStatsIndex();
+			BinaryScoreFile binaryFile = getBinaryFile();
+			if (binaryFile != null)
+				binaryFile.forEachScore(stats::add);
+			else for (ScoreEntry scoreEntry : getIndex())
+				stats.add(scoreEntry.getName(), scoreEntry.getScore());
+			playerStats = stats;
+		}
+		return playerStats;
+	}
+	
+	/**
+	 * Gibt die Binärdatei zurück und öffnet oder erstellt sie dazu beim ersten Aufruf.
+	 * @return die Binärdatei; oder null, wenn die Textdatei benutzt wird
+	 * @throws UncheckedIOException wenn die Binärdatei gewählt ist, aber nicht geöffnet oder erstellt werden kann
+	 */
+	private static BinaryScoreFile getBinaryFile() {
+		if (!formatChosen) {
+			if ("binary".equals(System.getProperty(FORMAT_PROPERTY))) try {
+				Path file = Path.of(BINARY_PATH);
+				Path namesFile = Path.of(NAMES_PATH);
+				binaryFile = Files.exists(file) ? BinaryScoreFile.open(file, namesFile)
+						: BinaryScoreFile.importTextFile(Path.of(PATH), file, namesFile);
 			}
-			reader.close();
-			return scoreList;
+			catch (IOException e) {
+				throw new UncheckedIOException("The binary highscore file cannot be opened.", e);
+			}
+			formatChosen = true;
 		}
-		catch(IOException e) {
+		return binaryFile;
+	}
+	
+	/**
+	 * Gibt den sortierten Index zurück und liest dazu beim ersten Aufruf die Datei.
+	 * @return der Index
+	 */
+	private static List<ScoreEntry> getIndex() {
+		if (index == null) {
+			index = readFile();
+			index.sort(ORDER);
+		}
+		return index;
+	}
+	
+	/**
+	 * Liest alle gültigen Einträge in der Reihenfolge der Datei.
+	 * @return die ScoreEntry Objekte
+	 * @throws UncheckedIOException wenn die Datei existiert, aber nicht gelesen werden kann
+	 */
+	private static List<ScoreEntry> readFile() {
+		try {
+			return readTextFile(Path.of(PATH));
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("The highscores cannot be read.", e);
+		}
+	}
+	
+	/**
+	 * Liest alle gültigen Einträge der übergebenen Textdatei in der Reihenfolge der Datei.<br>
+	 * Ist die Datei nicht in {@link #CHARSET} kodiert, stammt sie von einer älteren Version: Sie wird dann in der
+	 * Zeichenkodierung des Systems gelesen, oder in ISO-8859-1, wenn auch das nicht gelingt,
+	 * und einmalig in {@link #CHARSET} umgeschrieben.
+	 * @param file die Textdatei im Format von {@link ScoreEntry#read(String)}
+	 * @return die ScoreEntry Objekte; leer, wenn die Datei nicht existiert
+	 * @throws IOException wenn die Datei nicht gelesen oder umgeschrieben werden kann
+	 */
+	static List<ScoreEntry> readTextFile(Path file) throws IOException {
+		List<ScoreEntry> scoreList = new ArrayList<ScoreEntry>();
+		if (!Files.exists(file))
 			return scoreList;
+		byte[] bytes = Files.readAllBytes(file);
+		String text = decode(bytes, CHARSET);
+		if (text == null) {
+			text = decode(bytes, LEGACY_CHARSET);
+			// ISO-8859-1 kann jede datei lesen und stimmt bei den umlauten mit den üblichen kodierungen überein
+			if (text == null)
+				text = new String(bytes, StandardCharsets.ISO_8859_1);
+			Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+			try (FileOutputStream out = new FileOutputStream(temp.toFile())) {
+				out.write(text.getBytes(CHARSET));
+				out.getFD().sync();
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		text.lines().forEach(line -> {
+			ScoreEntry scoreLine = ScoreEntry.read(line);
+			if (scoreLine != null)
+				scoreList.add(scoreLine);
+		});
+		return scoreList;
+	}
+	
+	/**
+	 * Dekodiert die übergebenen Bytes, ohne ungültige Zeichen zu ersetzen.
+	 * @param bytes die Bytes
+	 * @param charset die Zeichenkodierung
+	 * @return der Text; oder null, wenn die Bytes in der Zeichenkodierung ungültig sind
+	 */
+	private static String decode(byte[] bytes, Charset charset) {
+		try {
+			return charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPORT)
+					.onUnmappableCharacter(CodingErrorAction.REPORT)
+					.decode(ByteBuffer.wrap(bytes)).toString();
+		}
+		catch (CharacterCodingException e) {
+			return null;
 		}
 	}
 	
 	/**
 	 * Schreibt eine Liste von {@link ScoreEntry} Objekten in die Datei {@value #PATH}.<br>
-	 * Die Elemente werden in der Reihenfolge in die Datei geschrieben, in der sie in der Liste vorkommen.
+	 * Die Elemente werden in der Reihenfolge in die Datei geschrieben, in der sie in der Liste vorkommen,
+	 * und ersetzen alle bisherigen Einträge.
 	 * @param scoreEntries die zu schreibenden ScoreEntry Objekte
+	 * @throws UncheckedIOException wenn die Einträge nicht geschrieben werden können; dann bleiben alle Einträge unverändert
 	 */
 	public static void writeScoreEntries(List<ScoreEntry> scoreEntries) {
-		try {
-			PrintWriter printWriter = new PrintWriter(new FileWriter(PATH));
-			for(ScoreEntry score : scoreEntries) {
-				score.write(printWriter);
+		synchronized (LOCK) {
+			BinaryScoreFile binaryFile = getBinaryFile();
+			try {
+				if (binaryFile != null)
+					binaryFile.replaceAll(scoreEntries);
+				else write(new File(PATH), scoreEntries, false);
 			}
-			printWriter.close();
-		} 
-		catch (IOException e) {
-			return;
-		} 
+			catch (IOException e) {
+				throw new UncheckedIOException("The highscores cannot be written.", e);
+			}
+			playerStats = null;
+			if (binaryFile != null) return;
+			index = new ArrayList<>(scoreEntries);
+			index.sort(ORDER);
+			appended.clear();
+			generation++;
+		}
 	}
 	
 	/**
-	 * Schreibt das übergebene {@link ScoreEntry} Objekt an der korrekten Stelle in die Datei {@value #PATH}.<br>
-	 * Die Elemente sollen absteigend sortiert sein. Wenn das übergebene Element dieselbe Punktzahl wie ein
-	 * Element der Datei hat, soll das übergebene Element danach eingefügt werden.
+	 * Fügt das übergebene {@link ScoreEntry} Objekt an der korrekten Stelle in die Einträge ein.<br>
+	 * Die Elemente sind absteigend sortiert. Wenn das übergebene Element dieselbe Punktzahl wie ein
+	 * vorhandenes Element hat, wird das übergebene Element danach eingefügt.<br>
+	 * In der Datei {@value #PATH} wird das Element nur angehängt.
 	 * @param scoreEntry das ScoreEntry Objekt, das hinzugefügt werden soll
 	 */
 	public static void addScoreEntry(ScoreEntry scoreEntry) {
-		int index = 0;
-		List<ScoreEntry> scoreEntries = ScoreEntryIO.loadScoreEntries();
-		for(ScoreEntry score : scoreEntries) {
-			if(score.compareTo(scoreEntry)>=0)
-				index++;
-			else break;
-		}
-		scoreEntries.add(index, scoreEntry);
-		ScoreEntryIO.writeScoreEntries(scoreEntries);
+		addScoreEntries(List.of(scoreEntry));
+	}
+	
+	/**
+	 * Fügt alle übergebenen {@link ScoreEntry} Objekte wie mit {@link #addScoreEntry(ScoreEntry)} ein,
+	 * zum Beispiel die Einträge aller Spieler eines beendeten Spiels.<br>
+	 * Die Elemente werden in einem einzigen Schreibvorgang an die Datei {@value #PATH} angehängt
+	 * und auf den Datenträger geschrieben, bevor die Methode zurückkehrt.
+	 * Erst danach werden sie in den Index und die Statistiken der Spieler aufgenommen.
+	 * @param scoreEntries die ScoreEntry Objekte, die hinzugefügt werden sollen
+	 * @throws UncheckedIOException wenn die Einträge nicht gespeichert werden können; dann bleiben alle Einträge unverändert
+	 */
+	public static void addScoreEntries(List<ScoreEntry> scoreEntries) {
+		if (scoreEntries.isEmpty()) return;
+		synchronized (LOCK) {
+			BinaryScoreFile binaryFile = getBinaryFile();
+			try {
+				if (binaryFile != null)
+					binaryFile.add(scoreEntries);
+				else {
+					List<ScoreEntry> index = getIndex();
+					write(new File(PATH), scoreEntries, true);
+					for (ScoreEntry scoreEntry : scoreEntries)
+						index.add(insertionPoint(index, scoreEntry), scoreEntry);
+					appended.addAll(scoreEntries);
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("The highscores cannot be written.", e);
+			}
+			if (playerStats != null)
+				for (ScoreEntry scoreEntry : scoreEntries)
+					playerStats.add(scoreEntry.getName(), scoreEntry.getScore());
+			if (binaryFile == null && appended.size() >= COMPACTION_THRESHOLD && !compacting) {
+				compacting = true;
+				Background.EXECUTOR.execute(ScoreEntryIO::compact);
+			}
+		}
+	}
+	
+	/**
+	 * Fügt alle übergebenen {@link ScoreEntry} Objekte im Hintergrund ein.<br>
+	 * Die Aufträge werden in der Reihenfolge der Aufrufe nacheinander ausgeführt.
+	 * @param scoreEntries die ScoreEntry Objekte, die hinzugefügt werden sollen
+	 * @return wird abgeschlossen, sobald die Einträge gespeichert sind; oder mit der Exception, wenn das nicht gelingt
+	 * @see #addScoreEntries(List)
+	 */
+	public static CompletableFuture<Void> addScoreEntriesInBackground(List<ScoreEntry> scoreEntries) {
+		List<ScoreEntry> copy = List.copyOf(scoreEntries);
+		return CompletableFuture.runAsync(() -> addScoreEntries(copy), Background.EXECUTOR);
+	}
+	
+	/**
+	 * Sucht binär die Stelle hinter allen Einträgen mit mindestens derselben Punktzahl.
+	 * @param index der sortierte Index
+	 * @param scoreEntry der einzufügende Eintrag
+	 * @return die Stelle, an der der Eintrag eingefügt wird
+	 */
+	private static int insertionPoint(List<ScoreEntry> index, ScoreEntry scoreEntry) {
+		int low = 0;
+		int high = index.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (index.get(mid).compareTo(scoreEntry) >= 0)
+				low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+	
+	// background //
+	
+	/**
+	 * Erstellt den Thread für das Speichern im Hintergrund und die Verdichtung beim ersten Bedarf.
+	 */
+	private static final class Background {
+		
+		private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+			Thread thread = new Thread(task, "ScoreEntryIO-Writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+	}
+	
+	/**
+	 * Schreibt die Datei sortiert neu, ohne das Hinzufügen von Einträgen währenddessen zu blockieren.<br>
+	 * Der Index wird in eine temporäre Datei geschrieben; Einträge, die in der Zwischenzeit angehängt wurden,
+	 * werden am Ende ergänzt. Danach ersetzt die temporäre Datei die alte in einem Schritt.
+	 */
+	private static void compact() {
+		List<ScoreEntry> snapshot;
+		int snapshotGeneration;
+		synchronized (LOCK) {
+			snapshot = new ArrayList<>(getIndex());
+			snapshotGeneration = generation;
+			appended.clear();
+		}
+		File file = new File(PATH);
+		File temp = new File(PATH + ".tmp");
+		try {
+			write(temp, snapshot, false);
+			synchronized (LOCK) {
+				if (generation != snapshotGeneration) {
+					temp.delete();
+					return;
+				}
+				write(temp, appended, true);
+				appended.clear();
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+		}
+		catch (IOException e) {
+			temp.delete();
+		}
+		finally {
+			synchronized (LOCK) {
+				compacting = false;
+			}
+		}
+	}
+	
+	/**
+	 * Schreibt die übergebenen Einträge in einem Schreibvorgang in die übergebene Datei und wartet,
+	 * bis sie auf dem Datenträger stehen.
+	 * @param file die Datei
+	 * @param scoreEntries die zu schreibenden Einträge
+	 * @param append gibt an, ob die Einträge an die Datei angehängt werden
+	 * @throws IOException wenn nicht alle Einträge geschrieben werden konnten
+	 */
+	private static void write(File file, List<ScoreEntry> scoreEntries, boolean append) throws IOException {
+		StringWriter text = new StringWriter();
+		PrintWriter printWriter = new PrintWriter(text);
+		for (ScoreEntry score : scoreEntries)
+			score.write(printWriter);
+		try (FileOutputStream out = new FileOutputStream(file, append)) {
+			out.write(text.toString().getBytes(CHARSET));
+			out.getFD().sync();
+		}
 	}
 	
 }
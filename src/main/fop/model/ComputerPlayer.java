@@ -4,14 +4,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import fop.controller.GameController;
+import fop.controller.GameCommand;
+import fop.controller.GameSession;
+import fop.controller.Pacing;
 import fop.model.board.Position;
 import fop.model.cards.BrokenToolCard;
 import fop.model.cards.Card;
@@ -19,8 +19,6 @@ import fop.model.cards.FixedToolCard;
 import fop.model.cards.GoalCard;
 import fop.model.cards.PathCard;
 
-import javax.swing.SwingWorker;
-
 /***
  * 
  * Stellt einen Computerspieler dar.
@@ -54,25 +52,24 @@ public class ComputerPlayer extends Player {
 	
 	private boolean zuggemacht = false;
 	
-	public ComputerPlayer(String name) {
+	/** Der Befehl, mit dem der aktuelle Zug beendet wird; oder null, solange noch keiner gewählt wurde. */
+	private GameCommand move = null;
+	
+	/** Die Sitzung, in der der Computerspieler spielt. */
+	protected final GameSession session;
+	
+	/** Die Zufallsquelle des Computerspielers, abgeleitet von der Sitzung. */
+	protected final GameRandom random;
+	
+	/**
+	 * Erstellt einen Computerspieler, der in der übergebenen Sitzung spielt.
+	 * @param name der Name des Spielers
+	 * @param session die Sitzung des Spielers
+	 */
+	public ComputerPlayer(String name, GameSession session) {
 		super(name);
-		
-		GameController.addPropertyChangeListener(GameController.NEXT_PLAYER, evt -> {
-			// skip if it is not the players turn
-			if (GameController.getActivePlayer() != this) return;
-			
-			// do action in background worker
-			new SwingWorker<Object, Void>() {
-				
-				@Override
-				protected Object doInBackground() throws Exception {
-					sleep(800);
-					doAction();
-					sleep(800);
-					return null;
-				}
-			}.execute();
-		});
+		this.session = session;
+		this.random = session.splitRandom();
 	}
 	
 	@Override
@@ -81,28 +78,48 @@ public class ComputerPlayer extends Player {
 	}
 	
 	/**
-	 * Pausiert das Programm, damit die Änderungen auf der Benutzeroberfläche sichtbar werden.
-	 * @param timeMillis zu wartende Zeit in Millisekunden
+	 * Plant den Zug im Hintergrund ein, ohne den aufrufenden Thread zu blockieren.
 	 */
-	protected void sleep(int timeMillis) {
-		try {
-			TimeUnit.MILLISECONDS.sleep(timeMillis);
-		} catch (InterruptedException ignored) {}
+	@Override
+	public void beginTurn() {
+		// without hand cards the turn ends immediately
+		if (handCards.isEmpty()) {
+			session.submit(GameCommand.doNothing(this));
+			return;
+		}
+		
+		// choose and select a card, then play it, each after a delay instead of blocking a thread
+		long delay = session.getPacing().getStepDelay();
+		session.runInBackground(() -> {
+			doAction();
+			session.submit(move != null ? move : GameCommand.doNothing(this), delay);
+		}, delay);
 	}
 	
 	protected void selectCard(Card card) {
-		GameController.selectCard(card);
-		sleep(800);
+		session.selectCard(card);
+	}
+	
+	/**
+	 * Merkt sich den Befehl, mit dem der Zug beendet wird.<br>
+	 * Der Befehl wird erst nach der Verzögerung der Sitzung ausgeführt, damit die ausgewählte Karte sichtbar ist.
+	 * @param command der Befehl an die Sitzung
+	 * @see Pacing#getStepDelay()
+	 */
+	protected void play(GameCommand command) {
+		zuggemacht = true;
+		move = command;
 	}
 	
 	/**
-	 * Führt einen Zug des Computerspielers aus.<br>
+	 * Wählt den Zug des Computerspielers.<br>
 	 * Benutzt {@link #selectCard(Card)}, um eine Karte auszuwählen.<br>
-	 * Benutzt Methoden in {@link GameController}, um Aktionen auszuführen.
+	 * Benutzt {@link #play(GameCommand)}, um den Befehl festzulegen, mit dem der Zug beendet wird.
 	 */
 	protected void doAction() {
 		
 		zuggemacht = false;
+		move = null;
 		
 		//Repariere kaputtes Wergzeug bei sich selbst wenn möglich
 		if(this.hasBrokenTool()) {
@@ -131,7 +148,7 @@ public class ComputerPlayer extends Player {
 				return;
 		}
 		//Nutze BreakTool
-		if(Math.random() < this.getBreakToolProb()) {
+		if(random.nextDouble() < this.getBreakToolProb()) {
 			for(Card handcard : handCards) {
 				if(handcard.isBrokenTool()) {
 					selectCard(handcard);
@@ -142,7 +159,7 @@ public class ComputerPlayer extends Player {
 			}
 		}
 		//Nutze FixTool
-		if(Math.random() < this.getFixToolProb()) {
+		if(random.nextDouble() < this.getFixToolProb()) {
 			for(Card handcard : handCards) {
 				if(handcard.isFixedTool()) {
 					selectCard(handcard);
@@ -179,10 +196,9 @@ public class ComputerPlayer extends Player {
 	///////////////
 	
 	private void discardRandomCard() {
-		Card handcard = handCards.get((int)(Math.random()*handCards.size()));
+		Card handcard = handCards.get(random.nextInt(handCards.size()));
 		selectCard(handcard);
-		zuggemacht = true;
-		GameController.discardSelectedCard(GameController.getActivePlayer());
+		play(GameCommand.discardSelectedCard(session.getActivePlayer()));
 		return;
 	}
 	
@@ -192,8 +208,7 @@ public class ComputerPlayer extends Player {
 				for(BrokenToolCard brokenToolCard : this.getBrokenTools()) {
 					if(this.canBrokenToolBeFixed(brokenToolCard, (FixedToolCard)handcard)) {
 						selectCard(handcard);
-						zuggemacht = true;
-						GameController.fixBrokenToolCardWithSelectedCard(this, this, brokenToolCard);
+						play(GameCommand.fixBrokenToolCardWithSelectedCard(this, this, brokenToolCard));
 						return;
 					}
 				}
@@ -204,15 +219,14 @@ public class ComputerPlayer extends Player {
 	private void rockfall() {
 		switch(this.getRole()) {
 			case GOLD_MINER:
-				zuggemacht = true;
-				GameController.discardSelectedCard(GameController.getActivePlayer());
+				play(GameCommand.discardSelectedCard(session.getActivePlayer()));
 				return;
 			case SABOTEUR:
 			case MANAGER:
 				Map<Position, Double> distance = new HashMap<>();
-				Set<Position> allCards = GameController.getCardPositions();
+				Set<Position> allCards = session.getCardPositions();
 				for(Position posi : allCards) {
-					if(!GameController.getCardAt(posi).isGoalCard() && !GameController.getCardAt(posi).isStartCard()) {
+					if(!session.getCardAt(posi).isGoalCard() && !session.getCardAt(posi).isStartCard()) {
 						distance.put(posi, this.distFromNearestGoal(posi));
 					}
 				}
@@ -224,8 +238,7 @@ public class ComputerPlayer extends Player {
 					return;
 				for(Position posi : distance.keySet()) {
 					if(distance.get(posi) == minDist) {
-						zuggemacht = true;
-						GameController.destroyCardWithSelectedCardAt(GameController.getActivePlayer(), posi.x(), posi.y());	
+						play(GameCommand.destroyCardWithSelectedCardAt(session.getActivePlayer(), posi.x(), posi.y()));
 						return;
 					}
 				}
@@ -239,11 +252,11 @@ public class ComputerPlayer extends Player {
 		case GOLD_MINER:
 			if(goldcardFound == false) {
 				if(goalCardsInit == false) {
-					for(Position posi : GameController.getAllGoalCards())
+					for(Position posi : session.getAllGoalCards())
 						goalCards.add(posi);
 					goalCardsInit = true;
 				}	
-				GoalCard goalcard = (GoalCard)GameController.getCardAt(goalCards.get(0));
+				GoalCard goalcard = (GoalCard)session.getCardAt(goalCards.get(0));
 				if(!goalcard.isCovered()) {
 					goalCards.remove(0);
 					return;
@@ -253,18 +266,15 @@ public class ComputerPlayer extends Player {
 				} else {
 					goalCards.remove(0);
 				}
-				zuggemacht = true;
-				GameController.lookAtGoalCardWithSelectedCard(GameController.getActivePlayer(), goalcard);
+				play(GameCommand.lookAtGoalCardWithSelectedCard(session.getActivePlayer(), goalcard));
 				return;
 			} else {
-				zuggemacht = true;
-				GameController.discardSelectedCard(GameController.getActivePlayer());
+				play(GameCommand.discardSelectedCard(session.getActivePlayer()));
 				return;
 			}
 		case SABOTEUR:
 		case MANAGER:
-			zuggemacht = true;
-			GameController.discardSelectedCard(GameController.getActivePlayer());
+			play(GameCommand.discardSelectedCard(session.getActivePlayer()));
 			return;
 		}
 		
@@ -273,30 +283,28 @@ public class ComputerPlayer extends Player {
 	
 	
 	private void breakToolCard(BrokenToolCard brokenToolCard) {
-		List<Player> players = Arrays.asList(GameController.getPlayers());
-		Collections.shuffle(players);
+		List<Player> players = Arrays.asList(session.getPlayers());
+		random.shuffle(players);
 		for(Player player : players) {
-			if(player == GameController.getActivePlayer())
+			if(player == session.getActivePlayer())
 				continue;
 			if(player.canToolBeBroken(brokenToolCard)) {
-				zuggemacht = true;
-				GameController.breakToolWithSelectedCard(GameController.getActivePlayer(), player);
+				play(GameCommand.breakToolWithSelectedCard(session.getActivePlayer(), player));
 				return;
 			}
 		}
 	}
 	
 	private void fixToolCard(FixedToolCard handcard) {
-		List<Player> players = Arrays.asList(GameController.getPlayers());
-		Collections.shuffle(players);
+		List<Player> players = Arrays.asList(session.getPlayers());
+		random.shuffle(players);
 		for(Player player : players) {
-			if(player == GameController.getActivePlayer())
+			if(player == session.getActivePlayer())
 				continue;
 			if(!player.getBrokenTools().isEmpty()) {
 				for(BrokenToolCard brokenTool : player.getBrokenTools()) {
 					if(player.canBrokenToolBeFixed(brokenTool, handcard)) {
-						zuggemacht = true;
-						GameController.fixBrokenToolCardWithSelectedCard(GameController.getActivePlayer(), player, brokenTool);
+						play(GameCommand.fixBrokenToolCardWithSelectedCard(session.getActivePlayer(), player, brokenTool));
 						return;
 					}
 				}
@@ -332,8 +340,7 @@ public class ComputerPlayer extends Player {
 				return;
 			}
 			selectCard(bestcard);
-			zuggemacht = true;
-			GameController.placeSelectedCardAt(GameController.getActivePlayer(), bestPosition.x(), bestPosition.y());
+			play(GameCommand.placeSelectedCardAt(session.getActivePlayer(), bestPosition.x(), bestPosition.y()));
 			return;
 		}
 	}
@@ -347,7 +354,7 @@ public class ComputerPlayer extends Player {
 	
 	private double distFromNearestGoal(Position position) {
 		double distance = Double.POSITIVE_INFINITY;
-		for(Position goalPosi : GameController.getAllGoalCards()) {
+		for(Position goalPosi : session.getAllGoalCards()) {
 			double newDistance = Math.sqrt(
 					(goalPosi.x()-position.x())*(goalPosi.x()-position.x()) +
 					(goalPosi.y()-position.y())*(goalPosi.y()-position.y()));
@@ -446,7 +453,7 @@ public class ComputerPlayer extends Player {
 	
 	private Double distFromGoldCard(Position position) {
 		double distance = Double.POSITIVE_INFINITY;
-		Position goldPosi = GameController.getPosGoldCard();
+		Position goldPosi = session.getPosGoldCard();
 		if(goldPosi == null)
 			return 0.0;
 		double newDistance = Math.sqrt(
@@ -458,19 +465,7 @@ public class ComputerPlayer extends Player {
 	}
 
 	private Set<Position> getValidPositions(PathCard pathcard) {
-		Set<Position> validPositions = new HashSet<>();
-		Set<Position> cardPositions = GameController.getCardPositions();
-		int minX = cardPositions.stream().mapToInt(Position::x).min().orElse(0) - 1;
-		int maxX = cardPositions.stream().mapToInt(Position::x).max().orElse(0) + 1;
-		int minY = cardPositions.stream().mapToInt(Position::y).min().orElse(0) - 1;
-		int maxY = cardPositions.stream().mapToInt(Position::y).max().orElse(0) + 1;		
-		
-		// collect all valid positions
-		for (int x = minX; x <= maxX; x++)
-			for (int y = minY; y <= maxY; y++)
-				if (GameController.canCardBePlacedAt(x, y, pathcard))
-					validPositions.add(Position.of(x, y));
-		return validPositions;
+		return session.getValidPositions(pathcard);
 	}
 	
 }
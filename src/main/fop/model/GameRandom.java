@@ -0,0 +1,72 @@
+package fop.model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ *
+ * Die Zufallsquelle eines Spiels.<br>
+ * <br>
+ * Alle zufälligen Entscheidungen einer Sitzung beziehen ihre Zufallszahlen von einer Instanz dieser Klasse,
+ * sodass der Startwert zusammen mit den Spielern den gesamten Spielverlauf festlegt.
+ * Mit {@link #split()} werden unabhängige Zufallsquellen abgeleitet, etwa für jeden Computerspieler.
+ * Eine Instanz ist nicht threadsicher und sollte nur von einem Thread benutzt werden,
+ * dafür teilen sich parallel laufende Sitzungen keinen gemeinsamen Zustand.
+ *
+ */
+public final class GameRandom {
+	
+	private final SplittableRandom random;
+	
+	/**
+	 * Erstellt eine Zufallsquelle mit dem übergebenen Startwert.
+	 * @param seed der Startwert
+	 */
+	public GameRandom(long seed) {
+		this(new SplittableRandom(seed));
+	}
+	
+	private GameRandom(SplittableRandom random) {
+		this.random = random;
+	}
+	
+	/**
+	 * Leitet eine neue, unabhängige Zufallsquelle ab.<br>
+	 * Die abgeleitete Quelle hängt nur vom bisherigen Zustand dieser Quelle ab.
+	 * @return die neue Zufallsquelle
+	 */
+	public GameRandom split() {
+		return new GameRandom(random.split());
+	}
+	
+	/**
+	 * Liefert eine Zufallszahl zwischen {@code 0} (inklusiv) und {@code 1} (exklusiv).
+	 * @return die Zufallszahl
+	 * @see Math#random()
+	 */
+	public double nextDouble() {
+		return random.nextDouble();
+	}
+	
+	/**
+	 * Liefert eine ganze Zufallszahl zwischen {@code 0} (inklusiv) und {@code bound} (exklusiv).
+	 * @param bound die obere Grenze, muss positiv sein
+	 * @return die Zufallszahl
+	 */
+	public int nextInt(int bound) {
+		return random.nextInt(bound);
+	}
+	
+	/**
+	 * Mischt die übergebene Liste zufällig.
+	 * @param list die zu mischende Liste
+	 * @see java.util.Collections#shuffle(List, java.util.Random)
+	 */
+	public <T> void shuffle(List<T> list) {
+		for (int i = list.size() - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			list.set(i, list.set(j, list.get(i)));
+		}
+	}
+	
+}
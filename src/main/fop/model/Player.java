@@ -68,6 +68,13 @@ public class Player {
 		return false;
 	}
 	
+	/**
+	 * Wird von der Sitzung genau einmal aufgerufen, wenn der Spieler am Zug ist.<br>
+	 * Menschliche Spieler ziehen über die Benutzeroberfläche, daher geschieht hier nichts.
+	 * Die Methode muss sofort zurückkehren und darf den Zug nur im Hintergrund ausführen.
+	 */
+	public void beginTurn() {}
+	
 	
 	////////////////
 	// HAND CARDS //
@@ -0,0 +1,71 @@
+package fop.model;
+
+/**
+ *
+ * Fasst alle Highscore-Einträge eines Spielers zusammen:
+ * die Anzahl der Spiele, die Summe und die beste der erzielten Punktzahlen.<br>
+ * Die Objekte sind unveränderlich; {@link #add(int)} liefert ein neues Objekt.
+ *
+ */
+public final class PlayerStats {
+	
+	private final String name;
+	private final int gamesPlayed;
+	private final long totalScore;
+	private final int bestScore;
+	
+	/**
+	 * Erstellt die Statistik eines Spielers nach seinem ersten Spiel.
+	 * @param name der Name des Spielers
+	 * @param score die erreichte Punktzahl
+	 */
+	public PlayerStats(String name, int score) {
+		this(name, 1, score, score);
+	}
+	
+	private PlayerStats(String name, int gamesPlayed, long totalScore, int bestScore) {
+		this.name = name;
+		this.gamesPlayed = gamesPlayed;
+		this.totalScore = totalScore;
+		this.bestScore = bestScore;
+	}
+	
+	/**
+	 * Nimmt ein weiteres Spiel in die Statistik auf.
+	 * @param score die erreichte Punktzahl
+	 * @return die neue Statistik
+	 */
+	public PlayerStats add(int score) {
+		return new PlayerStats(name, gamesPlayed + 1, totalScore + score, Math.max(bestScore, score));
+	}
+	
+	// get //
+	
+	public String getName() {
+		return name;
+	}
+	
+	public int getGamesPlayed() {
+		return gamesPlayed;
+	}
+	
+	public long getTotalScore() {
+		return totalScore;
+	}
+	
+	public int getBestScore() {
+		return bestScore;
+	}
+	
+	public double getAverageScore() {
+		return (double) totalScore / gamesPlayed;
+	}
+	
+	// Object //
+	
+	@Override
+	public String toString() {
+		return "PlayerStats [name=" + name + ", games=" + gamesPlayed + ", total=" + totalScore + ", best=" + bestScore + "]";
+	}
+	
+}
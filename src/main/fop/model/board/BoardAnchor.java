@@ -6,11 +6,22 @@ import fop.model.cards.CardAnchor;
  * 
  * Stellt die Knoten des Wegelabyrinth Graphen dar.<br>
  * Sie bestehen aus einer {@link Position} mit {@code x} und {@code y} Koordinaten
- * sowie einem {@link CardAnchor}.
+ * sowie einem {@link CardAnchor}.<br>
+ * <br>
+ * Mit {@link #id(int, int, CardAnchor)} kann ein Knoten ohne Objekterzeugung als {@code int} dargestellt werden,
+ * wobei {@code x} und {@code y} zwischen {@value #MIN_COORDINATE} und {@value #MAX_COORDINATE} liegen müssen.
  *
  */
 public final class BoardAnchor {
 	
+	/** Die kleinste Koordinate, die in einer Knoten-ID dargestellt werden kann. */
+	public static final int MIN_COORDINATE = -(1 << 14);
+	
+	/** Die größte Koordinate, die in einer Knoten-ID dargestellt werden kann. */
+	public static final int MAX_COORDINATE = (1 << 14) - 1;
+	
+	private static final CardAnchor[] ANCHORS = CardAnchor.values();
+	
 	private final Position pos;
 	private final CardAnchor anchor;
 	
@@ -27,6 +38,58 @@ public final class BoardAnchor {
 		return new BoardAnchor(pos.x(), pos.y(), anchor);
 	}
 	
+	/**
+	 * Packt Position und Ankerpunkt in eine einzige Zahl.<br>
+	 * Format: 15 Bit {@code x}, 15 Bit {@code y}, 2 Bit Ankerpunkt.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 * @param anchor der Ankerpunkt
+	 * @return die ID des Knotens
+	 * @throws IllegalArgumentException wenn die Position nicht dargestellt werden kann
+	 */
+	public static int id(int x, int y, CardAnchor anchor) {
+		if (x < MIN_COORDINATE || x > MAX_COORDINATE || y < MIN_COORDINATE || y > MAX_COORDINATE)
+			throw new IllegalArgumentException(String.format("The position (%d, %d) is out of range.", x, y));
+		return (x & 0x7FFF) << 17 | (y & 0x7FFF) << 2 | anchor.ordinal();
+	}
+	
+	/**
+	 * Packt eine Position in eine einzige Zahl, die der ID ihres linken Knotens entspricht.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 * @return die ID der Position
+	 * @see #id(int, int, CardAnchor)
+	 */
+	public static int cellId(int x, int y) {
+		return id(x, y, ANCHORS[0]);
+	}
+	
+	/**
+	 * Erstellt den Knoten zur übergebenen ID.
+	 * @param id die ID des Knotens
+	 * @return der Knoten
+	 * @see #id(int, int, CardAnchor)
+	 */
+	public static BoardAnchor fromId(int id) {
+		return new BoardAnchor(idX(id), idY(id), idAnchor(id));
+	}
+	
+	public static int idX(int id) {
+		return id >> 17;
+	}
+	
+	public static int idY(int id) {
+		return id << 15 >> 17;
+	}
+	
+	public static CardAnchor idAnchor(int id) {
+		return ANCHORS[id & 3];
+	}
+	
+	public int id() {
+		return id(pos.x(), pos.y(), anchor);
+	}
+	
 	public int x() {
 		return pos.x();
 	}
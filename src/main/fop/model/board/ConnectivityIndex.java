@@ -0,0 +1,100 @@
+package fop.model.board;
+
+import fop.model.graph.IntGraph;
+import fop.model.graph.UnionFind;
+
+/**
+ *
+ * Verwaltet die Zusammenhangskomponenten des Graphen eines {@link Gameboard}s.<br>
+ * Die Knoten werden über ihre Plätze im {@link IntGraph} in einem {@link UnionFind} zusammengefasst.
+ * Neue Kanten werden direkt vereinigt. Das Entfernen einer Karte macht den Index ungültig,
+ * sodass er bei der nächsten Abfrage einmal vollständig neu aufgebaut wird.
+ *
+ */
+final class ConnectivityIndex {
+	
+	private final IntGraph graph;
+	
+	private final UnionFind components = new UnionFind();
+	
+	/** Ob {@link #components} den aktuellen Graphen beschreibt. */
+	private boolean valid = true;
+	
+	/**
+	 * Erstellt einen Index für den übergebenen Graphen.
+	 * @param graph der Graph des Wegelabyrinths
+	 */
+	ConnectivityIndex(IntGraph graph) {
+		this.graph = graph;
+	}
+	
+	/**
+	 * Leert den Index, nachdem der Graph geleert wurde.
+	 */
+	void clear() {
+		components.clear();
+		valid = true;
+	}
+	
+	
+	// updates //
+	
+	/**
+	 * Trägt eine neue Kante des Graphen ein.
+	 * @param x der Startknoten der Kante
+	 * @param y der Endknoten der Kante
+	 */
+	void connect(int x, int y) {
+		if (!valid)
+			return;
+		components.ensureSize(graph.slotCount());
+		components.union(graph.slotOf(x), graph.slotOf(y));
+	}
+	
+	/**
+	 * Wird aufgerufen, nachdem eine Karte entfernt wurde.<br>
+	 * Vereinigungen lassen sich nicht einzeln aufheben, daher wird der Index bei der nächsten Abfrage neu aufgebaut.
+	 */
+	void invalidate() {
+		valid = false;
+	}
+	
+	
+	// queries //
+	
+	/**
+	 * Prüft, ob der Knoten {@code v} mit mindestens einem der übergebenen Knoten verbunden ist.
+	 * @param v der zu prüfende Knoten
+	 * @param sources die Knoten, mit denen {@code v} verbunden sein soll
+	 * @param sourceCount die Anzahl der zu beachtenden Einträge in {@code sources}
+	 * @return {@code true} wenn eine Verbindung existiert; sonst {@code false}
+	 */
+	boolean isConnectedToAny(int v, int[] sources, int sourceCount) {
+		int slot = graph.slotOf(v);
+		if (slot < 0)
+			return false;
+		if (!valid)
+			rebuild();
+		components.ensureSize(graph.slotCount());
+		int root = components.find(slot);
+		for (int i = 0; i < sourceCount; i++) {
+			int sourceSlot = graph.slotOf(sources[i]);
+			if (sourceSlot >= 0 && components.find(sourceSlot) == root)
+				return true;
+		}
+		return false;
+	}
+	
+	
+	// intern //
+	
+	/** Baut die Komponenten aus allen Kanten des Graphen neu auf. */
+	private void rebuild() {
+		components.reset(graph.slotCount());
+		for (int slot = 0; slot < graph.slotCount(); slot++)
+			for (int i = 0; i < graph.degreeAt(slot); i++)
+				components.union(slot, graph.neighborAt(slot, i));
+		valid = true;
+	}
+	
+}
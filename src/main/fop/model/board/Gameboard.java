@@ -1,7 +1,9 @@
 package fop.model.board;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +14,8 @@ import java.util.stream.Collectors;
 import fop.model.cards.CardAnchor;
 import fop.model.cards.GoalCard;
 import fop.model.cards.PathCard;
-import fop.model.graph.Graph;
+import fop.model.graph.IntGraph;
+import fop.model.graph.IntIntMap;
 
 /**
  * 
@@ -22,7 +25,33 @@ import fop.model.graph.Graph;
 public class Gameboard {
 	
 	protected final Map<Position, PathCard> board = new HashMap<>();
-	protected final Graph<BoardAnchor> graph = new Graph<>();
+	/** Der Graph aller Knoten, deren IDs mit {@link BoardAnchor#id(int, int, CardAnchor)} gebildet werden. */
+	protected final IntGraph graph = new IntGraph(4);
+	
+	/** Die Positionen aller Startkarten. */
+	private final List<Position> startCards = new ArrayList<>();
+	
+	/** Die Knoten aller Startkarten. */
+	private int[] startAnchors = new int[4];
+	private int startAnchorCount = 0;
+	
+	/** Die Anzahl der Karten ohne Start- und Zielkarten. */
+	private int pathCardCount = 0;
+	
+	/** Die Anzahl der aufgedeckten Zielkarten und der aufgedeckten Zielkarten mit dem Goldschatz. */
+	private int visibleGoalCardCount = 0, visibleGoldCardCount = 0;
+	
+	/** Die Zusammenhangskomponenten von {@link #graph}. */
+	private final ConnectivityIndex connectivity = new ConnectivityIndex(graph);
+	
+	/**
+	 * Alle freien Positionen, an die mindestens eine aufgedeckte Karte angrenzt.<br>
+	 * Bildet die {@link BoardAnchor#cellId(int, int) ID} der Position auf zwei Masken ab, siehe {@link CardAnchor#getMask()}:
+	 * Die unteren 4 Bit enthalten die Seiten, an denen eine zu legende Karte einen Ankerpunkt haben muss,
+	 * die nächsten 4 Bit die Seiten, an denen sie keinen haben darf.<br>
+	 * Positionen mit mindestens einer geforderten Seite bilden den Rand, an dem Karten gelegt werden können.
+	 */
+	private final IntIntMap neighborMasks = new IntIntMap();
 	
 	/**
 	 * Erstellt ein leeres Wegelabyrinth und platziert Start- sowie Zielkarten.
@@ -36,7 +65,7 @@ public class Gameboard {
 	 * Auf {@code http://webgraphviz.com/} kann der Code dargestellt werden.
 	 */
 	public void printGraph() {
-		graph.toDotCode().forEach(System.out::println);
+		graph.toDotCode(id -> BoardAnchor.fromId(id).toString()).forEach(System.out::println);
 	}
 	
 	/**
@@ -45,6 +74,13 @@ public class Gameboard {
 	public void clear() {
 		board.clear();
 		graph.clear();
+		startCards.clear();
+		startAnchorCount = 0;
+		connectivity.clear();
+		neighborMasks.clear();
+		pathCardCount = 0;
+		visibleGoalCardCount = 0;
+		visibleGoldCardCount = 0;
 	}
 	
 	// add, remove //
@@ -62,19 +98,21 @@ public class Gameboard {
 		if(!card.isPathCard())
 			return;
 		//füge karte dem board zu
-		board.put(Position.of(x, y), card);
-		//für alle anchor der karte
-		card.getGraph().vertices().forEach(anchor -> {
-			//füge anchor dem graphen als knoten hinzu
-			graph.addVertex(BoardAnchor.of(x,y,anchor));
-			//füge kante zu knoten der nachbarn hinzu
-			graph.addEdge(
-				//knotenpunkt auf der karte	
-				BoardAnchor.of(x, y, anchor),
-				//knotenpunkt des nachbarn
-				BoardAnchor.of(anchor.getAdjacentPosition(Position.of(x, y)), anchor.getOppositeAnchor()));});
+		count(board.put(Position.of(x, y), card), -1);
+		count(card, 1);
+		//füge anchor der karte dem graphen als knoten hinzu
+		for(CardAnchor anchor : card.getGraph().vertices())
+			graph.addVertex(BoardAnchor.id(x, y, anchor));
+		//füge kante zum knotenpunkt des nachbarn hinzu
+		for(CardAnchor anchor : card.getGraph().vertices())
+			connect(BoardAnchor.id(x, y, anchor), BoardAnchor.id(x + anchor.getDeltaX(), y + anchor.getDeltaY(), anchor.getOppositeAnchor()));
 		//füge kanten auf der karte dem graphen hinzu
-		card.getGraph().edges().forEach(edge -> graph.addEdge(BoardAnchor.of(x, y, edge.x()), BoardAnchor.of(x, y, edge.y())));
+		card.getGraph().edges().forEach(edge -> connect(BoardAnchor.id(x, y, edge.x()), BoardAnchor.id(x, y, edge.y())));
+		if(card.isStartCard()) {
+			startCards.add(Position.of(x, y));
+			updateStartAnchors();
+		}
+		updateFrontierAround(x, y);
 		// stehen lassen
 		// check for goal cards
 		checkGoalCards();
@@ -91,9 +129,12 @@ public class Gameboard {
 				GoalCard goalCard = (GoalCard) goal.getValue();
 				if (goalCard.isCovered()) {
 					// turn card
+					count(goalCard, -1);
 					goalCard.showFront();
+					count(goalCard, 1);
 					// generate graph to match all neighbor cards
-					goalCard.generateGraph(card -> doesCardMatchItsNeighbors(x, y, card));
+					int masks = computeNeighborMasks(x, y);
+					goalCard.generateGraph(masks & 0xF, masks >> 4);
 					// connect graph of card
 					placeCard(x, y, goalCard);
 				}
@@ -116,13 +157,38 @@ public class Gameboard {
 		PathCard removeCard = board.get(Position.of(x, y));
 		//entferne karte aus board
 		board.remove(Position.of(x, y));
+		count(removeCard, -1);
 		//entferne alle knoten von karte und damit edges von karte und an karte vom graph
-		removeCard.getGraph().vertices().forEach(anchor -> graph.removeVertex(BoardAnchor.of(x, y, anchor)));
+		removeCard.getGraph().vertices().forEach(anchor -> graph.removeVertex(BoardAnchor.id(x, y, anchor)));
+		connectivity.invalidate();
+		if(removeCard.isStartCard()) {
+			startCards.remove(Position.of(x, y));
+			updateStartAnchors();
+		}
+		updateFrontierAround(x, y);
 		//rückgabe: enfernte karte
 		return removeCard;
 	}
 	
 	
+	/**
+	 * Zählt die übergebene Karte zu den Zählern der Siegbedingungen hinzu oder zieht sie davon ab.
+	 * @param card die Karte; oder null
+	 * @param delta {@code 1} wenn die Karte hinzukommt, {@code -1} wenn sie wegfällt
+	 */
+	private void count(PathCard card, int delta) {
+		if (card == null) return;
+		if (card.isGoalCard()) {
+			GoalCard goalCard = (GoalCard) card;
+			if (goalCard.isCovered()) return;
+			visibleGoalCardCount += delta;
+			if (goalCard.getType() == GoalCard.Type.Gold)
+				visibleGoldCardCount += delta;
+		} else if (!card.isStartCard())
+			pathCardCount += delta;
+	}
+	
+	
 	// can //
 	
 	/**
@@ -136,6 +202,40 @@ public class Gameboard {
 		return isPositionEmpty(x, y) && existsPathFromStartCard(x, y) && doesCardMatchItsNeighbors(x, y, card);
 	}
 	
+	/**
+	 * Gibt genau dann {@code true} zurück, wenn die Karte an der übergebenen Position zerstört werden kann.<br>
+	 * Das gilt für jede Wegekarte außer der Start- und den Zielkarten.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 * @return {@code true}, wenn dort eine zerstörbare Karte liegt; sonst {@code false}
+	 */
+	public boolean canCardBeDestroyedAt(int x, int y) {
+		PathCard card = board.get(Position.of(x, y));
+		return card != null && !card.isStartCard() && !card.isGoalCard();
+	}
+	
+	/**
+	 * Gibt alle Positionen zurück, an denen die übergebene Karte platziert werden kann.<br>
+	 * Es werden nur die freien Positionen am Rand des Wegelabyrinths geprüft,
+	 * sodass der Aufwand nicht von der Fläche des Wegelabyrinths abhängt.
+	 * @param card die zu testende Karte
+	 * @return die Positionen, an denen {@link #canCardBePlacedAt(int, int, PathCard)} {@code true} liefert
+	 */
+	public Set<Position> getValidPositions(PathCard card) {
+		Set<Position> validPositions = new HashSet<>();
+		int anchorMask = card.getAnchorMask();
+		for(int slot = 0; slot < neighborMasks.slots(); slot++) {
+			if(!neighborMasks.isUsed(slot))
+				continue;
+			int masks = neighborMasks.valueAt(slot);
+			int x = BoardAnchor.idX(neighborMasks.keyAt(slot));
+			int y = BoardAnchor.idY(neighborMasks.keyAt(slot));
+			if(matches(anchorMask, masks) && isFrontierCellReachable(x, y, masks & 0xF))
+				validPositions.add(Position.of(x, y));
+		}
+		return validPositions;
+	}
+	
 	/**
 	 * Gibt genau dann {@code true} zurück, wenn auf der übergebenen Position keine Karte liegt.
 	 * @param x x-Position im Wegelabyrinth
@@ -153,76 +253,132 @@ public class Gameboard {
 	 * @return {@code true}, wenn die Position erreichbar ist; sonst {@code false}
 	 */
 	private boolean existsPathFromStartCard(int x, int y) {
-		//position der startkarten
-		List<Position> posOfStartcards = this.findStartCard();
-		boolean pathExists = false;
-		//gehe über alle positionen der startkarten
-		for(Position posOfStartcard : posOfStartcards) {
-			//gehe über alle seiten (top,left,right,bottom)
-			for(CardAnchor anchor : CardAnchor.values()) {
-				//nehme alle knoten der startkarte
-				Iterator<CardAnchor> anchorIter = board.get(posOfStartcard).getGraph().vertices().iterator();
-				//laufe über diese
-				while(anchorIter.hasNext()) {
-					CardAnchor startAnchor = anchorIter.next();
-					//checke ob auf seite von position eine karte liegt
-					if(board.containsKey(anchor.getAdjacentPosition(Position.of(x, y)))){
-						//wenn ja, checke ob path von dort zur startkarte existiert
-						if(graph.hasPath(
-								BoardAnchor.of(anchor.getAdjacentPosition(Position.of(x, y)),anchor.getOppositeAnchor()),
-								BoardAnchor.of(posOfStartcard, startAnchor))) {
-							//dann existiert path
-							pathExists = true;
-							return pathExists;
-						}
-					}
-				}	
-			}
+		//gehe über alle seiten (top,left,right,bottom)
+		for(CardAnchor anchor : CardAnchor.values()) {
+			int adjacX = x + anchor.getDeltaX();
+			int adjacY = y + anchor.getDeltaY();
+			//checke ob auf seite von position eine karte liegt, deren knotenpunkt zur position erreichbar ist
+			if(board.containsKey(Position.of(adjacX, adjacY))
+					&& isAnchorReachable(BoardAnchor.id(adjacX, adjacY, anchor.getOppositeAnchor())))
+				return true;
 		}
-		return pathExists;
+		return false;
 	}
 	
 	/**
-	 * Gibt genau dann {@code true} zurück, wenn die übergebene Karte an der übergebene Position zu ihren Nachbarn passt.
+	 * Gibt genau dann {@code true} zurück, wenn einer der offenen Knotenpunkte an einer freien Position erreichbar ist.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 * @param openSides die Maske der Seiten, an denen die Nachbarkarte einen Knotenpunkt zur Position hat
+	 * @return {@code true}, wenn die Position erreichbar ist; sonst {@code false}
+	 */
+	private boolean isFrontierCellReachable(int x, int y, int openSides) {
+		for(CardAnchor anchor : CardAnchor.values())
+			if((openSides & anchor.getMask()) != 0
+					&& isAnchorReachable(BoardAnchor.id(x + anchor.getDeltaX(), y + anchor.getDeltaY(), anchor.getOppositeAnchor())))
+				return true;
+		return false;
+	}
+	
+	/**
+	 * Gibt genau dann {@code true} zurück, wenn der übergebene Knoten mit einer Startkarte verbunden ist.
+	 * @param anchorId die ID des Knotens
+	 * @return {@code true}, wenn der Knoten erreichbar ist; sonst {@code false}
+	 * @see BoardAnchor#id(int, int, CardAnchor)
+	 */
+	private boolean isAnchorReachable(int anchorId) {
+		return connectivity.isConnectedToAny(anchorId, startAnchors, startAnchorCount);
+	}
+	
+	/**
+	 * Fügt eine Kante dem Graphen und den Zusammenhangskomponenten hinzu.
+	 * @param x der Startknoten der Kante
+	 * @param y der Endknoten der Kante
+	 */
+	private void connect(int x, int y) {
+		graph.addEdge(x, y);
+		connectivity.connect(x, y);
+	}
+	
+	/**
+	 * Aktualisiert die freien Positionen am Rand, nachdem sich die Karte an der übergebenen Position geändert hat.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 */
+	private void updateFrontierAround(int x, int y) {
+		updateFrontier(x, y);
+		for(CardAnchor anchor : CardAnchor.values())
+			updateFrontier(x + anchor.getDeltaX(), y + anchor.getDeltaY());
+	}
+	
+	/**
+	 * Berechnet den Eintrag der übergebenen Position in {@link #neighborMasks} neu.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 */
+	private void updateFrontier(int x, int y) {
+		int cellId = BoardAnchor.cellId(x, y);
+		int masks = isPositionEmpty(x, y) ? computeNeighborMasks(x, y) : 0;
+		if(masks == 0)
+			neighborMasks.remove(cellId);
+		else
+			neighborMasks.put(cellId, masks);
+	}
+	
+	/**
+	 * Berechnet die geforderten und verbotenen Seiten der übergebenen Position aus ihren Nachbarn.<br>
+	 * Verdeckte Zielkarten werden dabei wie freie Positionen behandelt.
+	 * @param x x-Position im Wegelabyrinth
+	 * @param y y-Position im Wegelabyrinth
+	 * @return die Masken im Format von {@link #neighborMasks}
+	 */
+	private int computeNeighborMasks(int x, int y) {
+		int required = 0;
+		int forbidden = 0;
+		for(CardAnchor anchor : CardAnchor.values()) {
+			PathCard adjacCard = board.get(Position.of(x + anchor.getDeltaX(), y + anchor.getDeltaY()));
+			if(adjacCard == null || adjacCard.isGoalCard() && ((GoalCard) adjacCard).isCovered())
+				continue;
+			if((adjacCard.getAnchorMask() & anchor.getOppositeAnchor().getMask()) != 0)
+				required |= anchor.getMask();
+			else
+				forbidden |= anchor.getMask();
+		}
+		return required | forbidden << 4;
+	}
+	
+	/**
+	 * Gibt genau dann {@code true} zurück, wenn eine Karte mit den übergebenen Ankerpunkten die Masken einer Position erfüllt.
+	 * @param anchorMask die Maske der Ankerpunkte der Karte
+	 * @param masks die Masken der Position im Format von {@link #neighborMasks}
+	 * @return {@code true}, wenn die Karte passt; sonst {@code false}
+	 */
+	private static boolean matches(int anchorMask, int masks) {
+		return (anchorMask & masks & 0xF) == (masks & 0xF) && (anchorMask & masks >> 4) == 0;
+	}
+	
+	/**
+	 * Sammelt die Knoten aller Startkarten neu.
+	 */
+	private void updateStartAnchors() {
+		startAnchorCount = 0;
+		for(Position posOfStartcard : startCards)
+			for(CardAnchor startAnchor : board.get(posOfStartcard).getGraph().vertices()) {
+				if(startAnchorCount == startAnchors.length)
+					startAnchors = Arrays.copyOf(startAnchors, startAnchorCount * 2);
+				startAnchors[startAnchorCount++] = BoardAnchor.id(posOfStartcard.x(), posOfStartcard.y(), startAnchor);
+			}
+	}
+	
+	/**
+	 * Gibt genau dann {@code true} zurück, wenn die übergebene Karte an der übergebene freien Position zu ihren Nachbarn passt.
 	 * @param x x-Position im Wegelabyrinth
 	 * @param y y-Position im Wegelabyrinth
 	 * @param card die zu testende Karte
 	 * @return {@code true}, wenn die Karte dort zu ihren Nachbarn passt; sonst {@code false}
 	 */
 	private boolean doesCardMatchItsNeighbors(int x, int y, PathCard card) {
-		//standardzustand
-		boolean cardMatches = true;
-		Set<CardAnchor> cardPathsAnchor = card.getGraph().vertices();
-		//laufen über alle seiten
-		for(CardAnchor anchor : CardAnchor.values()) {
-			//angrenzende position
-			Position adjacPosi = anchor.getAdjacentPosition(Position.of(x, y));
-			//check ob karte auf angrenzender position existiert
-			if(board.containsKey(adjacPosi)) {
-				//angrenzende karte, wenn existent
-				PathCard adjacCard = board.get(adjacPosi);
-				//check ob goalcard
-				if(adjacCard.isGoalCard()) {
-					GoalCard adjacGoalCard = (GoalCard)adjacCard;
-					//wenn goalcard, check ob covered, da dann behandelbar wie keine karte
-					if(adjacGoalCard.isCovered())
-						continue;
-				}
-				//check ob zu legende karte knotenpunkt an seite hat
-				if(cardPathsAnchor.contains(anchor)) {
-					//wenn ja, check ob angrenzende karte da auch knoten hat
-					if(!adjacCard.getGraph().vertices().contains(anchor.getOppositeAnchor())) {
-						cardMatches = false;
-					}
-					//wenn nein, check ob angrenzende karte da auch keinen knoten hat
-				} else {
-					if(adjacCard.getGraph().vertices().contains(anchor.getOppositeAnchor())) {
-						cardMatches = false;
-					}
-				}	
-			}			
-		}	
-		return cardMatches;
+		return matches(card.getAnchorMask(), neighborMasks.get(BoardAnchor.cellId(x, y), 0));
 	}
 	
 	/**
@@ -230,7 +386,7 @@ public class Gameboard {
 	 * @return {@code true} wenn eine Goldkarte aufgedeckt ist; sonst {@code false}
 	 */
 	public boolean isGoldCardVisible() {
-		return board.values().stream().anyMatch(c -> c.isGoalCard() && ((GoalCard) c).getType() == GoalCard.Type.Gold && !((GoalCard) c).isCovered());
+		return visibleGoldCardCount > 0;
 	}
 	
 	
@@ -246,11 +402,7 @@ public class Gameboard {
 	}
 	
 	public int getNumberOfCardsInGameBoardWOStartAndGoal() {
-		int counter = 0;
-		for(Position posi : board.keySet())
-			if(!(board.get(posi).isGoalCard() || board.get(posi).isStartCard()))
-				counter++;
-		return counter;
+		return pathCardCount;
 	}
 	
 	/**
@@ -268,8 +420,7 @@ public class Gameboard {
 	}
 
 	public boolean atLeastOneGoalCardsIsVisible() {
-		return board.values().stream().anyMatch(
-				c -> c.isGoalCard() && !((GoalCard) c).isCovered());
+		return visibleGoalCardCount > 0;
 	}
 	
 	/**
@@ -277,19 +428,8 @@ public class Gameboard {
 	 * @return Position der Karte
 	 */
 	public List<Position> findStartCard() {
-		//gehe über alle Positionen mit Karte
-		List<Position> startCards = new ArrayList<>();
-		Iterator<Position> PosiIter = board.keySet().iterator();
-        while(PosiIter.hasNext()) {
-        	//Position mit Karte
-            Position posi = PosiIter.next();
-            //check ob Startkarte
-            if(board.get(posi).isStartCard()) {
-            	startCards.add(posi);
-            }
-        }
-        return startCards;
-    }
+		return new ArrayList<>(startCards);
+	}
 	
 	/**
 	 * Methode gibt Positionen der Karten des Boards zurück, die vom Typ Goalcard ist.
@@ -37,6 +37,44 @@ public enum CardAnchor {
 		}
 	}
 	
+	/**
+	 * Liefert das Bit dieses Ankerpunkts in einer 4-Bit-Maske von Ankerpunkten.
+	 * @return {@code 1 << ordinal()}
+	 */
+	public int getMask() {
+		return 1 << ordinal();
+	}
+	
+	/**
+	 * Liefert die Verschiebung in x-Richtung zur Position, zu der dieser Ankerpunkt zeigt.
+	 * @return {@code -1}, {@code 0} oder {@code 1}
+	 */
+	public int getDeltaX() {
+		switch (this) {
+			case left:
+				return -1;
+			case right:
+				return 1;
+			default:
+				return 0;
+		}
+	}
+	
+	/**
+	 * Liefert die Verschiebung in y-Richtung zur Position, zu der dieser Ankerpunkt zeigt.
+	 * @return {@code -1}, {@code 0} oder {@code 1}
+	 */
+	public int getDeltaY() {
+		switch (this) {
+			case bottom:
+				return 1;
+			case top:
+				return -1;
+			default:
+				return 0;
+		}
+	}
+	
 	public Position getAdjacentPosition(Position pos) {
 		switch (this) {
 			case left:
@@ -0,0 +1,237 @@
+package fop.model.cards;
+
+import fop.model.graph.Edge;
+import fop.model.graph.Graph;
+import fop.model.graph.UnmodifiableGraph;
+
+/**
+ *
+ * Beschreibt die Wege einer Wegekarte unabhängig von ihrem Namen.<br>
+ * Eine Form besteht aus der 4-Bit-Maske ihrer Ankerpunkte (siehe {@link CardAnchor#getMask()})
+ * und einer 6-Bit-Maske ihrer Kanten (siehe {@link #getEdgeBit(CardAnchor, CardAnchor)}).
+ * Beide zusammen ergeben die {@link #getId() ID} der Form.<br>
+ * <br>
+ * Alle gültigen Formen werden beim Laden der Klasse einmalig erzeugt und sind unveränderlich,
+ * sodass sie mit {@code ==} verglichen und beliebig geteilt werden können.
+ * Zu jeder Form ist die um 180° gedrehte Form vorberechnet.
+ *
+ */
+public final class CardShape {
+	
+	/** Die Anzahl der möglichen IDs, gültige IDs liegen zwischen {@code 0} und {@code ID_COUNT} (exklusiv). */
+	public static final int ID_COUNT = 1 << 10;
+	
+	private static final CardAnchor[] ANCHORS = CardAnchor.values();
+	
+	/** Der Index der Kante zwischen zwei Ankerpunkten, indiziert mit deren {@code ordinal()}; {@code -1} auf der Diagonalen. */
+	private static final int[][] EDGE_INDEX = new int[ANCHORS.length][ANCHORS.length];
+	
+	/** Die Ankerpunkte der Kante zu einem Index. */
+	private static final CardAnchor[][] EDGES = new CardAnchor[6][];
+	
+	/** Alle gültigen Formen, indiziert mit ihrer ID. */
+	private static final CardShape[] SHAPES = new CardShape[ID_COUNT];
+	
+	/** Die leere Form ohne Ankerpunkte. */
+	public static final CardShape EMPTY;
+	
+	static {
+		int index = 0;
+		for (int i = 0; i < ANCHORS.length; i++) {
+			EDGE_INDEX[i][i] = -1;
+			for (int j = i + 1; j < ANCHORS.length; j++) {
+				EDGE_INDEX[i][j] = EDGE_INDEX[j][i] = index;
+				EDGES[index++] = new CardAnchor[] {ANCHORS[i], ANCHORS[j]};
+			}
+		}
+		for (int mask = 0; mask < 1 << ANCHORS.length; mask++) {
+			int possibleEdges = fullEdgeMask(mask);
+			for (int edges = 0; edges < 1 << EDGES.length; edges++)
+				if ((edges & ~possibleEdges) == 0)
+					SHAPES[mask | edges << 4] = new CardShape(mask, edges);
+		}
+		for (CardShape shape : SHAPES)
+			if (shape != null)
+				shape.rotated = SHAPES[rotateMask(shape.anchorMask) | rotateEdgeMask(shape.edgeMask) << 4];
+		EMPTY = SHAPES[0];
+	}
+	
+	private final int anchorMask;
+	private final int edgeMask;
+	private final Graph<CardAnchor> graph;
+	private CardShape rotated;
+	
+	private CardShape(int anchorMask, int edgeMask) {
+		this.anchorMask = anchorMask;
+		this.edgeMask = edgeMask;
+		Graph<CardAnchor> graph = new Graph<>();
+		for (CardAnchor anchor : ANCHORS)
+			if ((anchorMask & anchor.getMask()) != 0)
+				graph.addVertex(anchor);
+		for (int i = 0; i < EDGES.length; i++)
+			if ((edgeMask & 1 << i) != 0)
+				graph.addEdge(EDGES[i][0], EDGES[i][1]);
+		this.graph = new UnmodifiableGraph<>(graph);
+	}
+	
+	
+	// factories //
+	
+	/**
+	 * Liefert die Form mit den übergebenen Masken.
+	 * @param anchorMask die Maske der Ankerpunkte
+	 * @param edgeMask die Maske der Kanten
+	 * @return die Form
+	 * @throws IllegalArgumentException wenn eine Kante einen Ankerpunkt außerhalb der Maske verbindet
+	 */
+	public static CardShape of(int anchorMask, int edgeMask) {
+		if (anchorMask < 0 || anchorMask >= 1 << ANCHORS.length || edgeMask < 0 || edgeMask >= 1 << EDGES.length)
+			throw new IllegalArgumentException(String.format("The masks (%d, %d) are out of range.", anchorMask, edgeMask));
+		CardShape shape = SHAPES[anchorMask | edgeMask << 4];
+		if (shape == null)
+			throw new IllegalArgumentException(String.format("The edges %d connect anchors outside of the mask %d.", edgeMask, anchorMask));
+		return shape;
+	}
+	
+	/**
+	 * Liefert die Form, die dem übergebenen Graphen entspricht.
+	 * @param graph der Graph einer Wegekarte
+	 * @return die Form
+	 * @throws IllegalArgumentException wenn der Graph eine Kante von einem Ankerpunkt zu sich selbst enthält
+	 */
+	public static CardShape of(Graph<CardAnchor> graph) {
+		int anchorMask = 0;
+		int edgeMask = 0;
+		for (CardAnchor anchor : graph.vertices())
+			anchorMask |= anchor.getMask();
+		for (Edge<CardAnchor> edge : graph.edges())
+			edgeMask |= getEdgeBit(edge.x(), edge.y());
+		return of(anchorMask, edgeMask);
+	}
+	
+	/**
+	 * Liefert die Form, deren Ankerpunkte alle untereinander verbunden sind.
+	 * @param anchorMask die Maske der Ankerpunkte
+	 * @return die Form
+	 */
+	public static CardShape fullyConnected(int anchorMask) {
+		return of(anchorMask, fullEdgeMask(anchorMask));
+	}
+	
+	/**
+	 * Liefert die Form zur übergebenen ID.
+	 * @param id die ID der Form
+	 * @return die Form
+	 * @throws IllegalArgumentException wenn die ID keine gültige Form beschreibt
+	 * @see #getId()
+	 */
+	public static CardShape byId(int id) {
+		if (id < 0 || id >= ID_COUNT || SHAPES[id] == null)
+			throw new IllegalArgumentException("There is no card shape with id " + id + ".");
+		return SHAPES[id];
+	}
+	
+	/**
+	 * Liefert das Bit der Kante zwischen den übergebenen Ankerpunkten in einer Kantenmaske.
+	 * @param x der erste Ankerpunkt
+	 * @param y der zweite Ankerpunkt
+	 * @return das Bit der Kante
+	 * @throws IllegalArgumentException wenn beide Ankerpunkte gleich sind
+	 */
+	public static int getEdgeBit(CardAnchor x, CardAnchor y) {
+		int index = EDGE_INDEX[x.ordinal()][y.ordinal()];
+		if (index < 0)
+			throw new IllegalArgumentException(String.format("An edge from %s to itself is not supported.", x));
+		return 1 << index;
+	}
+	
+	
+	// get //
+	
+	/**
+	 * Liefert die ID der Form, die sich aus Anker- und Kantenmaske zusammensetzt.
+	 * @return {@code anchorMask | edgeMask << 4}
+	 */
+	public int getId() {
+		return anchorMask | edgeMask << 4;
+	}
+	
+	public int getAnchorMask() {
+		return anchorMask;
+	}
+	
+	public int getEdgeMask() {
+		return edgeMask;
+	}
+	
+	public boolean hasAnchor(CardAnchor anchor) {
+		return (anchorMask & anchor.getMask()) != 0;
+	}
+	
+	public boolean hasEdge(CardAnchor x, CardAnchor y) {
+		return x != y && (edgeMask & getEdgeBit(x, y)) != 0;
+	}
+	
+	/**
+	 * Gibt an, ob die Form an allen geforderten Seiten einen Ankerpunkt und an allen verbotenen Seiten keinen hat.
+	 * @param requiredMask die Maske der geforderten Seiten
+	 * @param forbiddenMask die Maske der verbotenen Seiten
+	 * @return {@code true} wenn die Form passt; sonst {@code false}
+	 */
+	public boolean fits(int requiredMask, int forbiddenMask) {
+		return (anchorMask & requiredMask) == requiredMask && (anchorMask & forbiddenMask) == 0;
+	}
+	
+	/**
+	 * Liefert die um 180° gedrehte Form.
+	 * @return die gedrehte Form
+	 */
+	public CardShape getRotated() {
+		return rotated;
+	}
+	
+	/**
+	 * Liefert einen unveränderlichen Graphen, der die Wege der Form beschreibt.
+	 * @return der Graph der Form
+	 * @see PathCard#getGraph()
+	 */
+	public Graph<CardAnchor> getGraph() {
+		return graph;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format("CardShape (%d, %s)", getId(), graph);
+	}
+	
+	
+	// intern //
+	
+	/** Liefert die Maske aller Kanten zwischen den Ankerpunkten der übergebenen Maske. */
+	private static int fullEdgeMask(int anchorMask) {
+		int edges = 0;
+		for (int i = 0; i < EDGES.length; i++)
+			if ((anchorMask & EDGES[i][0].getMask()) != 0 && (anchorMask & EDGES[i][1].getMask()) != 0)
+				edges |= 1 << i;
+		return edges;
+	}
+	
+	/** Dreht eine Maske von Ankerpunkten um 180°, also jeden Ankerpunkt auf den gegenüberliegenden. */
+	private static int rotateMask(int anchorMask) {
+		int rotated = 0;
+		for (CardAnchor anchor : ANCHORS)
+			if ((anchorMask & anchor.getMask()) != 0)
+				rotated |= anchor.getOppositeAnchor().getMask();
+		return rotated;
+	}
+	
+	/** Dreht eine Maske von Kanten um 180°. */
+	private static int rotateEdgeMask(int edgeMask) {
+		int rotated = 0;
+		for (int i = 0; i < EDGES.length; i++)
+			if ((edgeMask & 1 << i) != 0)
+				rotated |= getEdgeBit(EDGES[i][0].getOppositeAnchor(), EDGES[i][1].getOppositeAnchor());
+		return rotated;
+	}
+	
+}
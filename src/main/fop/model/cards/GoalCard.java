@@ -7,7 +7,6 @@ import static fop.model.cards.CardAnchor.top;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -17,18 +16,68 @@ import java.util.stream.Collectors;
  */
 public final class GoalCard extends PathCard {
 	
+	/** Die Maske aller Ankerpunkte. */
+	private static final int ALL_ANCHORS = left.getMask() | bottom.getMask() | right.getMask() | top.getMask();
+	
+	/**
+	 * Die möglichen Anordnungen einer aufgedeckten Steinkarte in der Reihenfolge, in der sie ausprobiert werden.<br>
+	 * Ein einzelner Ankerpunkt hat keine Kante und damit auch keinen Knoten.
+	 */
+	private static final List<CardAnchor[]> STONE_POSSIBILITIES = List.of(
+			new CardAnchor[] {left, top},
+			new CardAnchor[] {left, bottom},
+			new CardAnchor[] {top, bottom},
+			new CardAnchor[] {left, right},
+			new CardAnchor[] {top},
+			new CardAnchor[] {left},
+			new CardAnchor[] {left, top, bottom},
+			new CardAnchor[] {left, right, bottom},
+			new CardAnchor[] {left, top, right, bottom});
+	
+	/**
+	 * Die Anordnung einer aufgedeckten Steinkarte für alle Nachbarn,
+	 * indiziert mit {@code requiredMask | forbiddenMask << 4} aus {@link #generateGraph(int, int)}.<br>
+	 * Gewählt wird die erste Anordnung aus {@link #STONE_POSSIBILITIES}, die ungedreht oder gedreht passt.
+	 * Passt keine, bleibt die letzte Anordnung gedreht liegen.
+	 */
+	private static final StoneLayout[] STONE_LAYOUTS = new StoneLayout[1 << 8];
+	
+	static {
+		for (int masks = 0; masks < STONE_LAYOUTS.length; masks++)
+			STONE_LAYOUTS[masks] = chooseStoneLayout(masks & 0xF, masks >> 4);
+	}
+	
 	/** Der Typ der Zielkarte. */
 	private final Type type;
 	
 	/** Falls {@code true} ist nur die Rückseite der Karte sichtbar. */
 	private boolean covered;
 	
+	/** Die Masken der Nachbarn, mit denen der Graph zuletzt erzeugt wurde; siehe {@link #generateGraph(int, int)}. */
+	private int neighborMasks = 0;
+	
 	public GoalCard(Type type) {
-		super("goal", List.of());
+		super("goal", CardShape.EMPTY);
 		this.type = type;
 		covered = true;
 	}
 	
+	private GoalCard(GoalCard card) {
+		super(card);
+		type = card.type;
+		covered = card.covered;
+		neighborMasks = card.neighborMasks;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * Die Kopie behält auch die verdeckte oder aufgedeckte Seite der Zielkarte.
+	 */
+	@Override
+	public GoalCard copy() {
+		return new GoalCard(this);
+	}
+	
 	/**
 	 * {@inheritDoc}
 	 * @see fop.model.cards.Card#isGoalCard()
@@ -57,48 +106,61 @@ public final class GoalCard extends PathCard {
 	}
 	
 	/**
-	 * Generiert einen zur Zielkarte und ihren Nachbarn passenden Graphen.
-	 * @param doesCardMatchItsNeighbors gibt an, ob die übergebene Karte zu ihren Nachbarn passt
+	 * Generiert einen zur Zielkarte und ihren Nachbarn passenden Graphen.<br>
+	 * Steinkarten erhalten die vorberechnete Anordnung aus {@link #STONE_LAYOUTS}.
+	 * @param requiredMask die Seiten, an denen die Nachbarn einen Ankerpunkt zur Zielkarte haben
+	 * @param forbiddenMask die Seiten, an denen die Nachbarn keinen Ankerpunkt zur Zielkarte haben
+	 * @see CardAnchor#getMask()
 	 */
-	public void generateGraph(Predicate<GoalCard> doesCardMatchItsNeighbors) {
+	public void generateGraph(int requiredMask, int forbiddenMask) {
+		neighborMasks = requiredMask | forbiddenMask << 4;
 		switch (type) {
 			case Stone:
-				List<CardAnchor[]> possibilities = List.of(
-						new CardAnchor[] {left, top},
-						new CardAnchor[] {left, bottom},
-						new CardAnchor[] {top, bottom},
-						new CardAnchor[] {left, right},
-						new CardAnchor[] {top},
-						new CardAnchor[] {left},
-						new CardAnchor[] {left, top, bottom},
-						new CardAnchor[] {left, right, bottom},
-						new CardAnchor[] {left, top, right, bottom});
-				// try all possibilities
-				for (CardAnchor[] possibility : possibilities) {
-					// normal rotation
-					if (isRotated()) rotate();
-					setFullyConnectedGraph(possibility);
-					name = String.format("goal_%s_%s", type.name().toLowerCase(),
-							Arrays.stream(possibility).map(CardAnchor::name).map(String::toLowerCase).sorted().collect(Collectors.joining("_")));
-					if (doesCardMatchItsNeighbors.test(this)) break;
-					// rotated card
-					rotate();
-					if (doesCardMatchItsNeighbors.test(this)) break;
-				}
+				StoneLayout layout = STONE_LAYOUTS[requiredMask | forbiddenMask << 4];
+				setShape(layout.shape);
+				if (isRotated() != layout.rotated) rotate();
+				name = layout.name;
 				break;
 			default:
-				setFullyConnectedGraph(CardAnchor.values());
+				setShape(CardShape.fullyConnected(ALL_ANCHORS));
 				break;
 		}
 	}
 	
-	private void setFullyConnectedGraph(CardAnchor... anchors) {
-		graph.clear();
-		for (int i = 0; i < anchors.length - 1; i++)
-			for (int j = i + 1; j < anchors.length; j++)
-				graph.addEdge(anchors[i], anchors[j]);
+	/**
+	 * Gibt die Masken der Nachbarn zurück, mit denen der Graph zuletzt erzeugt wurde.<br>
+	 * Mit {@code generateGraph(masks & 0xF, masks >> 4)} lässt sich die Karte genau so wiederherstellen.
+	 * @return die geforderten Seiten in den unteren 4 Bit, die verbotenen Seiten in den nächsten 4 Bit
+	 */
+	public int getNeighborMasks() {
+		return neighborMasks;
 	}
 	
+	/**
+	 * Wählt die Anordnung einer Steinkarte für die übergebenen Nachbarn.
+	 * @param requiredMask die Seiten, an denen die Karte einen Ankerpunkt haben muss
+	 * @param forbiddenMask die Seiten, an denen die Karte keinen Ankerpunkt haben darf
+	 * @return die gewählte Anordnung
+	 * @see #STONE_LAYOUTS
+	 */
+	private static StoneLayout chooseStoneLayout(int requiredMask, int forbiddenMask) {
+		StoneLayout layout = null;
+		for (CardAnchor[] possibility : STONE_POSSIBILITIES) {
+			int anchorMask = 0;
+			if (possibility.length > 1)
+				for (CardAnchor anchor : possibility)
+					anchorMask |= anchor.getMask();
+			CardShape shape = CardShape.fullyConnected(anchorMask);
+			String name = String.format("goal_%s_%s", Type.Stone.name().toLowerCase(),
+					Arrays.stream(possibility).map(CardAnchor::name).map(String::toLowerCase).sorted().collect(Collectors.joining("_")));
+			// normal rotation
+			if (shape.fits(requiredMask, forbiddenMask)) return new StoneLayout(shape, false, name);
+			// rotated card
+			layout = new StoneLayout(shape, true, name);
+			if (shape.getRotated().fits(requiredMask, forbiddenMask)) return layout;
+		}
+		return layout;
+	}
 	
 	/**
 	 * Dreht die Karte so, dass die Vorderseite sichtbar wird.
@@ -143,4 +205,25 @@ public final class GoalCard extends PathCard {
 		Gold, Stone;
 	}
 	
+	/**
+	 * 
+	 * Die Anordnung einer aufgedeckten Steinkarte.
+	 *
+	 */
+	private static final class StoneLayout {
+		
+		/** Die Form der ungedrehten Karte. */
+		private final CardShape shape;
+		private final boolean rotated;
+		/** Der Name des Bildes der Karte. */
+		private final String name;
+		
+		private StoneLayout(CardShape shape, boolean rotated, String name) {
+			this.shape = shape;
+			this.rotated = rotated;
+			this.name = name;
+		}
+		
+	}
+	
 }
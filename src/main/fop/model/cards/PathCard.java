@@ -2,36 +2,45 @@ package fop.model.cards;
 
 import java.util.List;
 
-import fop.model.graph.Edge;
 import fop.model.graph.Graph;
 
 /**
  * 
  * Stellt eine Wegekarte dar.
- * @see #graph
+ * @see #shape
  *
  */
 public class PathCard extends Card {
 	
 	/**
-	 * Der Graph der Wegekarte.<br>
-	 * Ein Knoten im Graphen zeigt an, dass die Karte an dieser Stelle eine Verbindung nach außen hat.<br>
+	 * Die Form der ungedrehten Wegekarte.<br>
+	 * Ein Knoten im Graphen der Form zeigt an, dass die Karte an dieser Stelle eine Verbindung nach außen hat.<br>
 	 * Eine Kante im Graphen zeigt an, dass zwischen den beiden Knoten eine Verbindung besteht.
+	 * @see CardShape
 	 */
-	protected Graph<CardAnchor> graph = new Graph<>();
+	private CardShape shape;
 	
 	/** Gibt an, ob die Karte gedreht wurde oder nicht. */
 	private boolean rotated = false;
 	
+	/**
+	 * Erstellt eine Wegekarte mit der übergebenen Form.
+	 * @param name der Name der Karte
+	 * @param shape die Form der Karte
+	 */
+	public PathCard(String name, CardShape shape) {
+		super(name);
+		this.shape = shape;
+	}
+	
 	/**
 	 * Erstellt eine Wegekarte mit dem übergebenen Graphen.
 	 * @param name der Name der Karte
 	 * @param graph der Graph der Karte
-	 * @see #graph
+	 * @see #shape
 	 */
 	public PathCard(String name, Graph<CardAnchor> graph) {
-		super(name);
-		this.graph = graph;
+		this(name, CardShape.of(graph));
 	}
 	
 	/**
@@ -43,10 +52,35 @@ public class PathCard extends Card {
 	 */
 	public PathCard(String name, List<List<CardAnchor>> edges) {
 		super(name);
+		int anchorMask = 0;
+		int edgeMask = 0;
 		for (List<CardAnchor> edgeList : edges)
 			for (int i = 0; i < edgeList.size() - 1; i++)
-				for (int j = i + 1; j < edgeList.size(); j++)
-					graph.addEdge(edgeList.get(i), edgeList.get(j));
+				for (int j = i + 1; j < edgeList.size(); j++) {
+					anchorMask |= edgeList.get(i).getMask() | edgeList.get(j).getMask();
+					edgeMask |= CardShape.getEdgeBit(edgeList.get(i), edgeList.get(j));
+				}
+		shape = CardShape.of(anchorMask, edgeMask);
+	}
+	
+	/**
+	 * Erstellt eine Kopie der übergebenen Wegekarte mit derselben Form und Drehung.
+	 * @param card die zu kopierende Karte
+	 * @see #copy()
+	 */
+	protected PathCard(PathCard card) {
+		super(card.name);
+		shape = card.shape;
+		rotated = card.rotated;
+	}
+	
+	/**
+	 * Erstellt eine unabhängige Kopie der Karte in ihrem aktuellen Zustand.<br>
+	 * Spätere Änderungen an der Karte, etwa durch {@link #rotate()}, wirken sich nicht auf die Kopie aus.
+	 * @return die Kopie
+	 */
+	public PathCard copy() {
+		return new PathCard(this);
 	}
 	
 	/**
@@ -59,32 +93,45 @@ public class PathCard extends Card {
 	}
 	
 	/**
-	 * Dreht den Graphen und ändert den Wert von {@link #rotated}.
-	 * @see #graph
+	 * Dreht die Karte, indem der Wert von {@link #rotated} geändert wird.<br>
+	 * Die gedrehte Form ist in {@link CardShape} vorberechnet.
 	 */
 	public void rotate() {
-		// switch rotated state
 		rotated = !rotated;
-		
-		// create new rotated graph
-		Graph<CardAnchor> rotatedGraph = new Graph<>();
-		// add vertices
-		for (CardAnchor anchor : graph.vertices())
-			rotatedGraph.addVertex(anchor.getOppositeAnchor());
-		// add edges
-		for (Edge<CardAnchor> edges : graph.edges())
-			rotatedGraph.addEdge(edges.x().getOppositeAnchor(), edges.y().getOppositeAnchor());
-		
-		// update graph
-		graph = rotatedGraph;
 	}
 	
 	/**
-	 * Liefert den Graphen, der die möglichen Wege der Karte beschreibt.
+	 * Setzt die Form der ungedrehten Karte.
+	 * @param shape die neue Form
+	 */
+	protected void setShape(CardShape shape) {
+		this.shape = shape;
+	}
+	
+	/**
+	 * Liefert die Form der Karte unter Berücksichtigung der Drehung.
+	 * @return die aktuelle Form der Karte
+	 */
+	public CardShape getShape() {
+		return rotated ? shape.getRotated() : shape;
+	}
+	
+	/**
+	 * Liefert den Graphen, der die möglichen Wege der Karte beschreibt.<br>
+	 * Der Graph gehört zur Form der Karte und kann nicht verändert werden.
 	 * @return den Graphen der Karte
 	 */
 	public Graph<CardAnchor> getGraph() {
-		return graph;
+		return getShape().getGraph();
+	}
+	
+	/**
+	 * Liefert die Seiten, an denen die Karte einen Ankerpunkt besitzt.
+	 * @return die 4-Bit-Maske der Ankerpunkte
+	 * @see CardAnchor#getMask()
+	 */
+	public int getAnchorMask() {
+		return getShape().getAnchorMask();
 	}
 	
 	/**
@@ -97,14 +144,14 @@ public class PathCard extends Card {
 	
 	@Override
 	public String toString() {
-		return String.format("PathCard (%s, %s)", name, graph.toString());
+		return String.format("PathCard (%s, %s)", name, getGraph().toString());
 	}
 	
 	@Override
 	public int hashCode() {
 		final int prime = 31;
 		int result = super.hashCode();
-		result = prime * result + (graph == null ? 0 : graph.hashCode());
+		result = prime * result + getShape().getId();
 		result = prime * result + (rotated ? 1231 : 1237);
 		return result;
 	}
@@ -115,9 +162,7 @@ public class PathCard extends Card {
 		if (!super.equals(obj)) return false;
 		if (getClass() != obj.getClass()) return false;
 		PathCard other = (PathCard) obj;
-		if (graph == null) {
-			if (other.graph != null) return false;
-		} else if (!graph.equals(other.graph)) return false;
+		if (getShape() != other.getShape()) return false;
 		if (rotated != other.rotated) return false;
 		return true;
 	}
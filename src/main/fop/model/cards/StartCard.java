@@ -5,8 +5,6 @@ import static fop.model.cards.CardAnchor.left;
 import static fop.model.cards.CardAnchor.right;
 import static fop.model.cards.CardAnchor.top;
 
-import java.util.List;
-
 import fop.model.graph.Graph;
 
 /**
@@ -21,7 +19,16 @@ public final class StartCard extends PathCard {
 	}
 	
 	public StartCard() {
-		super("start", List.of(List.of(left, bottom, right, top)));
+		super("start", CardShape.fullyConnected(left.getMask() | bottom.getMask() | right.getMask() | top.getMask()));
+	}
+	
+	private StartCard(StartCard card) {
+		super(card);
+	}
+	
+	@Override
+	public StartCard copy() {
+		return new StartCard(this);
 	}
 	
 	/**
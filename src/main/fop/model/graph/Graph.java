@@ -127,18 +127,18 @@ public class Graph<V> {
 		if(x.equals(y))
 			return true;
 		// Graphensuche BFS-Code ist aus Vorlesung ADM bekannt und wird hier implementiert.
+		// Knoten werden beim Einreihen markiert, damit jeder Knoten höchstens einmal in der Warteschlange landet.
 		Queue<V> queue = new ArrayDeque<>();
-		queue.add(x);
-		V currentVertex;	
 		Set<V> checked = new HashSet<>();
+		queue.add(x);
+		checked.add(x);
 		while(!queue.isEmpty()) {
-			currentVertex = queue.remove();
-			if(G.get(currentVertex).contains(y))
-				return true;
-			else {
-				checked.add(currentVertex);
-				queue.addAll(G.get(currentVertex));
-				queue.removeAll(checked);
+			V currentVertex = queue.remove();
+			for(V neighbor : G.get(currentVertex)) {
+				if(neighbor.equals(y))
+					return true;
+				if(checked.add(neighbor))
+					queue.add(neighbor);
 			}
 		}
 		return false;
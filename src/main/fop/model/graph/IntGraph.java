@@ -0,0 +1,311 @@
+package fop.model.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ *
+ * Modelliert einen ungerichteten Graphen, dessen Knoten beliebige {@code int}-Werte sind.<br>
+ * Im Gegensatz zu {@link Graph} werden keine Objekte für Knoten oder Kanten erzeugt:
+ * Jeder Knoten belegt einen Platz in Arrays, der seine Nachbarn als Plätze speichert.
+ * Dafür ist die Anzahl der Nachbarn eines Knotens durch {@link #maxDegree()} begrenzt.
+ *
+ */
+public class IntGraph {
+	
+	/** Die maximale Anzahl an Nachbarn eines Knotens. */
+	private final int maxDegree;
+	
+	/** Bildet einen Knoten auf seinen Platz ab. */
+	private final IntIntMap slots = new IntIntMap(64);
+	
+	/** Der Knoten eines Platzes. */
+	private int[] vertices = new int[64];
+	
+	/** Die Anzahl der Nachbarn eines Platzes; {@code -1} für freie Plätze. */
+	private int[] degrees = new int[64];
+	
+	/** Die Nachbarplätze, {@link #maxDegree} Einträge pro Platz. */
+	private int[] adjacency;
+	
+	/** Plätze, die durch das Entfernen von Knoten frei geworden sind. */
+	private int[] freeSlots = new int[16];
+	private int freeCount = 0;
+	
+	/** Die Anzahl der jemals vergebenen Plätze. */
+	private int slotCount = 0;
+	
+	/**
+	 * Erstellt einen leeren ungerichteten Graphen.
+	 * @param maxDegree die maximale Anzahl an Nachbarn eines Knotens
+	 */
+	public IntGraph(int maxDegree) {
+		if (maxDegree < 1) throw new IllegalArgumentException("The maximum degree must be positive.");
+		this.maxDegree = maxDegree;
+		adjacency = new int[vertices.length * maxDegree];
+	}
+	
+	/**
+	 * Entfernt alle Knoten und Kanten des Graphen.
+	 */
+	public void clear() {
+		slots.clear();
+		freeCount = 0;
+		slotCount = 0;
+	}
+	
+	public int maxDegree() {
+		return maxDegree;
+	}
+	
+	/**
+	 * Gibt die Anzahl der Knoten zurück.
+	 * @return die Anzahl der Knoten
+	 */
+	public int size() {
+		return slots.size();
+	}
+	
+	
+	// add //
+	
+	/**
+	 * Fügt den übergebenen Knoten hinzu.
+	 * @param v der Knoten, der hinzugefügt werden soll
+	 * @return {@code true} wenn der Knoten hinzugefügt wurde;
+	 *         {@code false} wenn er bereits existiert hat
+	 */
+	public boolean addVertex(int v) {
+		if (slots.containsKey(v))
+			return false;
+		int slot;
+		if (freeCount > 0)
+			slot = freeSlots[--freeCount];
+		else {
+			if (slotCount == vertices.length)
+				grow();
+			slot = slotCount++;
+		}
+		vertices[slot] = v;
+		degrees[slot] = 0;
+		slots.put(v, slot);
+		return true;
+	}
+	
+	/**
+	 * Fügt eine Kante von Knoten {@code x} nach Knoten {@code y} hinzu.
+	 * @param x der Startknoten der Kante
+	 * @param y der Endknoten der Kante
+	 * @return {@code true} wenn die Kante hinzugefügt wurde;
+	 *         {@code false} wenn sie bereits existiert hat
+	 * @throws IllegalStateException wenn einer der Knoten bereits {@link #maxDegree()} Nachbarn hat
+	 */
+	public boolean addEdge(int x, int y) {
+		addVertex(x);
+		addVertex(y);
+		int sx = slots.get(x, -1);
+		int sy = slots.get(y, -1);
+		if (indexOf(sx, sy) >= 0)
+			return false;
+		if (degrees[sx] == maxDegree || degrees[sy] == maxDegree)
+			throw new IllegalStateException("A vertex of the edge already has the maximum number of neighbors.");
+		adjacency[sx * maxDegree + degrees[sx]++] = sy;
+		if (sx != sy)
+			adjacency[sy * maxDegree + degrees[sy]++] = sx;
+		return true;
+	}
+	
+	
+	// remove //
+	
+	/**
+	 * Entfernt den Knoten {@code v} und alle mit ihm verbundenen Kanten.
+	 * @param v der Knoten, der entfernt werden soll
+	 * @return {@code true} wenn der Knoten entfernt wurde;
+	 *         {@code false} wenn er nicht existiert hat
+	 */
+	public boolean removeVertex(int v) {
+		int slot = slots.get(v, -1);
+		if (slot < 0)
+			return false;
+		for (int i = 0; i < degrees[slot]; i++) {
+			int neighbor = adjacency[slot * maxDegree + i];
+			if (neighbor != slot)
+				unlink(neighbor, slot);
+		}
+		degrees[slot] = -1;
+		slots.remove(v);
+		if (freeCount == freeSlots.length)
+			freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+		freeSlots[freeCount++] = slot;
+		return true;
+	}
+	
+	/**
+	 * Entfernt die Kante von Knoten {@code x} nach Knoten {@code y}.
+	 * @param x der Startknoten der Kante
+	 * @param y der Endknoten der Kante
+	 * @return {@code true} wenn die Kante entfernt wurde;
+	 *         {@code false} wenn die Kante nicht existiert hat
+	 */
+	public boolean removeEdge(int x, int y) {
+		int sx = slots.get(x, -1);
+		int sy = slots.get(y, -1);
+		if (sx < 0 || sy < 0 || indexOf(sx, sy) < 0)
+			return false;
+		unlink(sx, sy);
+		if (sx != sy)
+			unlink(sy, sx);
+		return true;
+	}
+	
+	
+	// has //
+	
+	/**
+	 * Prüft, ob der Graph den Knoten {@code v} besitzt.
+	 * @param v der zu überprüfende Knoten
+	 * @return {@code true} wenn der Knoten existiert; sonst {@code false}
+	 */
+	public boolean hasVertex(int v) {
+		return slots.containsKey(v);
+	}
+	
+	/**
+	 * Prüft, ob der Graph eine Kante vom Knoten {@code x} zum Knoten {@code y} besitzt.
+	 * @param x der Startknoten der Kante
+	 * @param y der Endknoten der Kante
+	 * @return {@code true} wenn die Kante existiert; sonst {@code false}
+	 */
+	public boolean hasEdge(int x, int y) {
+		int sx = slots.get(x, -1);
+		int sy = slots.get(y, -1);
+		return sx >= 0 && sy >= 0 && indexOf(sx, sy) >= 0;
+	}
+	
+	
+	// neighbors //
+	
+	/**
+	 * Gibt die Anzahl der Nachbarn des Knotens {@code v} zurück.
+	 * @param v der Knoten
+	 * @return die Anzahl der Nachbarn; oder {@code -1} wenn der Knoten nicht existiert
+	 */
+	public int degree(int v) {
+		int slot = slots.get(v, -1);
+		return slot < 0 ? -1 : degrees[slot];
+	}
+	
+	/**
+	 * Gibt den {@code i}-ten Nachbarn des Knotens {@code v} zurück.
+	 * @param v der Knoten
+	 * @param i der Index des Nachbarn, zwischen {@code 0} und {@link #degree(int)} (exklusiv)
+	 * @return der Nachbar
+	 */
+	public int neighbor(int v, int i) {
+		int slot = slots.get(v, -1);
+		if (slot < 0 || i < 0 || i >= degrees[slot])
+			throw new IndexOutOfBoundsException(i);
+		return vertices[adjacency[slot * maxDegree + i]];
+	}
+	
+	/**
+	 * Gibt alle Knoten des Graphen zurück.
+	 * @return ein neues Array mit allen Knoten
+	 */
+	public int[] vertices() {
+		int[] result = new int[size()];
+		int n = 0;
+		for (int slot = 0; slot < slotCount; slot++)
+			if (degrees[slot] >= 0)
+				result[n++] = vertices[slot];
+		return result;
+	}
+	
+	
+	// slots //
+	// Zugriff auf die interne Darstellung für Auswertungen ohne Hashzugriffe.
+	
+	/**
+	 * Gibt den Platz des Knotens {@code v} zurück.
+	 * @param v der Knoten
+	 * @return der Platz; oder {@code -1} wenn der Knoten nicht existiert
+	 */
+	public int slotOf(int v) {
+		return slots.get(v, -1);
+	}
+	
+	/**
+	 * Gibt eine obere Schranke für alle vergebenen Plätze zurück.
+	 * @return die Anzahl der jemals vergebenen Plätze
+	 */
+	public int slotCount() {
+		return slotCount;
+	}
+	
+	public int vertexAt(int slot) {
+		return vertices[slot];
+	}
+	
+	public int degreeAt(int slot) {
+		return degrees[slot];
+	}
+	
+	public int neighborAt(int slot, int i) {
+		return adjacency[slot * maxDegree + i];
+	}
+	
+	
+	// Visualization //
+	
+	/**
+	 * Liefert eine Darstellung des Graphen in {@code dot}-Sprache.
+	 * @param label wandelt einen Knoten in seine Beschriftung um
+	 * @return die einzelnen Zeilen des {@code dot}-Codes
+	 * @see Graph#toDotCode()
+	 */
+	public List<String> toDotCode(IntFunction<String> label) {
+		List<String> l = new ArrayList<>();
+		l.add("graph {");
+		for (int slot = 0; slot < slotCount; slot++)
+			if (degrees[slot] >= 0)
+				l.add(String.format("\t\"%s\" [label=\"%s\"];", label.apply(vertices[slot]), label.apply(vertices[slot])));
+		for (int slot = 0; slot < slotCount; slot++)
+			for (int i = 0; i < Math.max(degrees[slot], 0); i++) {
+				int neighbor = adjacency[slot * maxDegree + i];
+				if (slot <= neighbor)
+					l.add(String.format("\t\"%s\" -- \"%s\";", label.apply(vertices[slot]), label.apply(vertices[neighbor])));
+			}
+		l.add("}");
+		return l;
+	}
+	
+	
+	// intern //
+	
+	private int indexOf(int slot, int neighbor) {
+		for (int i = 0; i < degrees[slot]; i++)
+			if (adjacency[slot * maxDegree + i] == neighbor)
+				return i;
+		return -1;
+	}
+	
+	/** Entfernt {@code neighbor} aus der Nachbarliste von {@code slot}, indem der letzte Eintrag nachrückt. */
+	private void unlink(int slot, int neighbor) {
+		int i = indexOf(slot, neighbor);
+		if (i < 0)
+			return;
+		int last = --degrees[slot];
+		adjacency[slot * maxDegree + i] = adjacency[slot * maxDegree + last];
+	}
+	
+	private void grow() {
+		int capacity = vertices.length * 2;
+		vertices = Arrays.copyOf(vertices, capacity);
+		degrees = Arrays.copyOf(degrees, capacity);
+		adjacency = Arrays.copyOf(adjacency, capacity * maxDegree);
+	}
+	
+}
@@ -0,0 +1,193 @@
+package fop.model.graph;
+
+import java.util.Arrays;
+
+/**
+ *
+ * Eine Hashtabelle, die {@code int}-Schlüssel auf {@code int}-Werte abbildet, ohne dabei Objekte zu erzeugen.<br>
+ * Kollisionen werden durch lineares Sondieren aufgelöst, beim Entfernen werden nachfolgende Einträge zurückgeschoben.<br>
+ * <br>
+ * Über {@link #slots()}, {@link #isUsed(int)}, {@link #keyAt(int)} und {@link #valueAt(int)}
+ * können alle Einträge ohne Iterator durchlaufen werden.
+ *
+ */
+public final class IntIntMap {
+	
+	private static final int MIN_CAPACITY = 16;
+	
+	private int[] keys;
+	private int[] values;
+	private boolean[] used;
+	private int size;
+	
+	/**
+	 * Erstellt eine leere Hashtabelle.
+	 */
+	public IntIntMap() {
+		this(MIN_CAPACITY);
+	}
+	
+	/**
+	 * Erstellt eine leere Hashtabelle, die mindestens die übergebene Anzahl an Einträgen ohne Vergrößerung aufnehmen kann.
+	 * @param expectedSize die erwartete Anzahl an Einträgen
+	 */
+	public IntIntMap(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity * 3 / 4 < expectedSize)
+			capacity <<= 1;
+		keys = new int[capacity];
+		values = new int[capacity];
+		used = new boolean[capacity];
+	}
+	
+	/**
+	 * Entfernt alle Einträge.
+	 */
+	public void clear() {
+		Arrays.fill(used, false);
+		size = 0;
+	}
+	
+	
+	// get //
+	
+	/**
+	 * Gibt den Wert zum übergebenen Schlüssel zurück.
+	 * @param key der Schlüssel
+	 * @param defaultValue der Wert, der zurückgegeben wird, wenn der Schlüssel nicht existiert
+	 * @return der Wert; oder {@code defaultValue}
+	 */
+	public int get(int key, int defaultValue) {
+		int slot = find(key);
+		return slot < 0 ? defaultValue : values[slot];
+	}
+	
+	/**
+	 * Prüft, ob der übergebene Schlüssel existiert.
+	 * @param key der zu prüfende Schlüssel
+	 * @return {@code true} wenn der Schlüssel existiert; sonst {@code false}
+	 */
+	public boolean containsKey(int key) {
+		return find(key) >= 0;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	public boolean isEmpty() {
+		return size == 0;
+	}
+	
+	
+	// put, remove //
+	
+	/**
+	 * Setzt den Wert zum übergebenen Schlüssel.
+	 * @param key der Schlüssel
+	 * @param value der neue Wert
+	 * @return {@code true} wenn der Schlüssel neu hinzugefügt wurde;
+	 *         {@code false} wenn ein vorhandener Wert überschrieben wurde
+	 */
+	public boolean put(int key, int value) {
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (used[slot]) {
+			if (keys[slot] == key) {
+				values[slot] = value;
+				return false;
+			}
+			slot = (slot + 1) & mask;
+		}
+		used[slot] = true;
+		keys[slot] = key;
+		values[slot] = value;
+		if (++size > keys.length * 3 / 4)
+			resize(keys.length << 1);
+		return true;
+	}
+	
+	/**
+	 * Entfernt den übergebenen Schlüssel.
+	 * @param key der zu entfernende Schlüssel
+	 * @return {@code true} wenn der Schlüssel entfernt wurde;
+	 *         {@code false} wenn er nicht existiert hat
+	 */
+	public boolean remove(int key) {
+		int slot = find(key);
+		if (slot < 0)
+			return false;
+		// nachfolgende einträge der kette zurückschieben, damit keine lücke entsteht
+		int mask = keys.length - 1;
+		int gap = slot;
+		int next = (gap + 1) & mask;
+		while (used[next]) {
+			int home = hash(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - gap) & mask)) {
+				keys[gap] = keys[next];
+				values[gap] = values[next];
+				gap = next;
+			}
+			next = (next + 1) & mask;
+		}
+		used[gap] = false;
+		size--;
+		return true;
+	}
+	
+	
+	// slots //
+	
+	/**
+	 * Gibt die Anzahl der internen Plätze zurück, über die mit {@link #isUsed(int)} iteriert werden kann.
+	 * @return die Anzahl der Plätze
+	 */
+	public int slots() {
+		return keys.length;
+	}
+	
+	public boolean isUsed(int slot) {
+		return used[slot];
+	}
+	
+	public int keyAt(int slot) {
+		return keys[slot];
+	}
+	
+	public int valueAt(int slot) {
+		return values[slot];
+	}
+	
+	
+	// intern //
+	
+	private int find(int key) {
+		int mask = keys.length - 1;
+		int slot = hash(key) & mask;
+		while (used[slot]) {
+			if (keys[slot] == key)
+				return slot;
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+	
+	private void resize(int capacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		boolean[] oldUsed = used;
+		keys = new int[capacity];
+		values = new int[capacity];
+		used = new boolean[capacity];
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++)
+			if (oldUsed[i])
+				put(oldKeys[i], oldValues[i]);
+	}
+	
+	private static int hash(int key) {
+		int h = key * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+	
+}
@@ -0,0 +1,102 @@
+package fop.model.graph;
+
+import java.util.Arrays;
+
+/**
+ *
+ * Verwaltet eine Zerlegung der Zahlen {@code 0} bis {@link #size()} (exklusiv) in disjunkte Mengen.<br>
+ * Mengen werden nach ihrer Größe vereinigt und Pfade bei {@link #find(int)} halbiert,
+ * sodass jede Operation nahezu konstante Zeit benötigt.
+ *
+ */
+public final class UnionFind {
+	
+	/** Der Vorgänger eines Elements; Repräsentanten sind ihr eigener Vorgänger. */
+	private int[] parent = new int[0];
+	
+	/** Die Größe der Menge eines Repräsentanten. */
+	private int[] sizes = new int[0];
+	
+	private int size = 0;
+	
+	/**
+	 * Entfernt alle Elemente.
+	 */
+	public void clear() {
+		size = 0;
+	}
+	
+	/**
+	 * Setzt alle Elemente in eigene Mengen zurück.
+	 * @param size die neue Anzahl an Elementen
+	 */
+	public void reset(int size) {
+		clear();
+		ensureSize(size);
+	}
+	
+	/**
+	 * Vergrößert die Zerlegung, sodass sie mindestens {@code size} Elemente umfasst.
+	 * Neue Elemente bilden jeweils eine eigene Menge.
+	 * @param size die Mindestanzahl an Elementen
+	 */
+	public void ensureSize(int size) {
+		if (size <= this.size)
+			return;
+		if (parent.length < size) {
+			int capacity = Math.max(size, parent.length * 2);
+			parent = Arrays.copyOf(parent, capacity);
+			sizes = Arrays.copyOf(sizes, capacity);
+		}
+		for (int i = this.size; i < size; i++) {
+			parent[i] = i;
+			sizes[i] = 1;
+		}
+		this.size = size;
+	}
+	
+	public int size() {
+		return size;
+	}
+	
+	
+	// find, union //
+	
+	/**
+	 * Gibt den Repräsentanten der Menge des übergebenen Elements zurück.
+	 * @param x das Element
+	 * @return der Repräsentant
+	 */
+	public int find(int x) {
+		if (x < 0 || x >= size)
+			throw new IndexOutOfBoundsException(x);
+		while (parent[x] != x) {
+			parent[x] = parent[parent[x]];
+			x = parent[x];
+		}
+		return x;
+	}
+	
+	/**
+	 * Vereinigt die Mengen der übergebenen Elemente.
+	 * @param x das erste Element
+	 * @param y das zweite Element
+	 * @return {@code true} wenn zwei Mengen vereinigt wurden;
+	 *         {@code false} wenn beide Elemente bereits in derselben Menge lagen
+	 */
+	public boolean union(int x, int y) {
+		int rx = find(x);
+		int ry = find(y);
+		if (rx == ry)
+			return false;
+		if (sizes[rx] < sizes[ry]) {
+			int tmp = rx;
+			rx = ry;
+			ry = tmp;
+		}
+		parent[ry] = rx;
+		sizes[rx] += sizes[ry];
+		return true;
+	}
+	
+}
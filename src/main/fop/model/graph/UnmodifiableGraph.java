@@ -0,0 +1,62 @@
+package fop.model.graph;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * Eine unveränderliche Kopie eines {@link Graph}en, die von beliebig vielen Besitzern geteilt werden kann.<br>
+ * Alle verändernden Methoden werfen eine {@link UnsupportedOperationException}.
+ * Die Menge der Kanten wird einmalig berechnet und bei jedem Aufruf von {@link #edges()} wiederverwendet.
+ *
+ * @param <V> Typ der Knoten des Graphen
+ */
+public final class UnmodifiableGraph<V> extends Graph<V> {
+	
+	private final Set<Edge<V>> edges;
+	
+	/**
+	 * Erstellt eine unveränderliche Kopie des übergebenen Graphen.
+	 * @param graph der zu kopierende Graph
+	 */
+	public UnmodifiableGraph(Graph<V> graph) {
+		Map<V, Set<V>> copy = new HashMap<>();
+		graph.G.forEach((v, neighbors) -> copy.put(v, Collections.unmodifiableSet(new HashSet<>(neighbors))));
+		G = Collections.unmodifiableMap(copy);
+		edges = Collections.unmodifiableSet(super.edges());
+	}
+	
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException("The graph is read-only.");
+	}
+	
+	@Override
+	public void addVertex(V v) {
+		throw new UnsupportedOperationException("The graph is read-only.");
+	}
+	
+	@Override
+	public boolean addEdge(V x, V y) {
+		throw new UnsupportedOperationException("The graph is read-only.");
+	}
+	
+	@Override
+	public boolean removeVertex(V v) {
+		throw new UnsupportedOperationException("The graph is read-only.");
+	}
+	
+	@Override
+	public boolean removeEdge(V x, V y) {
+		throw new UnsupportedOperationException("The graph is read-only.");
+	}
+	
+	@Override
+	public Set<Edge<V>> edges() {
+		return edges;
+	}
+	
+}
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 
 import fop.controller.GameController;
 import fop.io.CardImageReader;
+import fop.model.GameRandom;
 import fop.model.Player;
 import fop.model.cards.Card;
 import fop.model.cards.GoalCard;
@@ -28,6 +29,9 @@ public final class DialogHandler {
 	
 	private final Component parent;
 	
+	/** Zufall für die Auswahl der Nachrichten, unabhängig vom Spielverlauf. */
+	private final GameRandom random = GameController.getSession().createViewRandom();
+	
 	@SuppressWarnings("unchecked")
 	public DialogHandler(Component parent) {
 		this.parent = parent;
@@ -47,17 +51,18 @@ public final class DialogHandler {
 		String[] messages = new String[] {
 				"%s ist am Zug!", "%s ist an der Reihe!", "%s, du bist dran!", "Jetzt ist %s an der Reihe!"
 		};
-		String msg = String.format(messages[(int) (Math.random() * messages.length)], player.getName());
+		String msg = String.format(messages[random.nextInt(messages.length)], player.getName());
 		JOptionPane.showMessageDialog(parent, msg, "Nächster Spieler", JOptionPane.PLAIN_MESSAGE, null);
 	}
 	
 	/**
-	 * Informiert den aktiven Spieler darüber, dass ihm keine Handkarten mehr zur Verfügung stehen.
+	 * Informiert den aktiven Spieler darüber, dass ihm keine Handkarten mehr zur Verfügung stehen.<br>
+	 * Computerspieler beenden ihren Zug in diesem Fall selbst.
 	 */
 	private final void showActivePlayerNoHandCardsDialog() {
-		if (!GameController.getActivePlayer().isComputer())
-			JOptionPane.showMessageDialog(parent, "<html>Du hast keine Handkarten mehr.<br>Dein Zug ist hiermit beendet.</html>",
-					"Keine Handkarten mehr", JOptionPane.INFORMATION_MESSAGE, null);
+		if (GameController.getActivePlayer().isComputer()) return;
+		JOptionPane.showMessageDialog(parent, "<html>Du hast keine Handkarten mehr.<br>Dein Zug ist hiermit beendet.</html>",
+				"Keine Handkarten mehr", JOptionPane.INFORMATION_MESSAGE, null);
 		GameController.doNothing();
 	}
 	
@@ -8,10 +8,14 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionListener;
 import java.awt.image.BufferedImage;
-import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import fop.controller.GameController;
+import fop.controller.GameSnapshot;
+import fop.controller.TurnDelta.Change;
+import fop.model.Player;
 import fop.model.board.Position;
 import fop.model.cards.Card;
 import fop.model.cards.GoalCard;
@@ -62,16 +66,13 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 		return my;
 	}
 	
-	// speed optimizations
-	private Set<Position> validPositions = new HashSet<>();
-	
 	public GameboardPanel() {
 		setBackground(new Color(252, 245, 222));
 		addMouseListener(this);
 		addMouseMotionListener(this);
-		GameController.addPropertyChangeListener(GameController.SELECT_CARD, evt -> {
-			updateValidPositions();
-			repaint();
+		GameController.addTurnListener(delta -> {
+			if (delta.containsAny(Change.SELECTED_CARD, Change.BOARD))
+				repaint();
 		});
 	}
 	
@@ -84,8 +85,13 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
 		
+		// read the game state only once
+		GameSnapshot snapshot = GameController.getSnapshot();
+		Map<Position, PathCard> board = snapshot.getBoard();
+		Card selected = snapshot.getSelectedCard();
+		
 		// calculate min and max values
-		Set<Position> cardPositions = GameController.getCardPositions();
+		Set<Position> cardPositions = board.keySet();
 		minX = cardPositions.stream().mapToInt(Position::x).min().orElse(0) - 1;
 		maxX = cardPositions.stream().mapToInt(Position::x).max().orElse(0) + 1;
 		minY = cardPositions.stream().mapToInt(Position::y).min().orElse(0) - 1;
@@ -120,13 +126,13 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 		
 		// == draw cards == //
 		
-		for (Position pos : cardPositions)
-			drawCard(g, GameController.getCardAt(pos), pos, 1f);
+		for (Entry<Position, PathCard> entry : board.entrySet())
+			drawCard(g, entry.getValue(), entry.getKey(), 1f);
 		
 		
 		// == draw outlines and shadows == //
 		
-		if (GameController.getSelectedCard() == null) return;
+		if (selected == null) return;
 		
 		int strokeWidth = Math.max(cardWidth / 20, 2);
 		float[] strokeDash = {Math.max(cardWidth / 10f, 5f), Math.max(cardWidth / 15f, 3f)};
@@ -135,9 +141,9 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 		g.setColor(Color.RED);
 		
 		// path card -> highlight suitable spots
-		boolean hasBrokenTool = GameController.getActivePlayer() == null || GameController.getActivePlayer().hasBrokenTool();
-		if (GameController.getSelectedCard().isPathCard() && !hasBrokenTool) {
-			PathCard selectedCard = (PathCard) GameController.getSelectedCard();
+		Set<Position> validPositions = snapshot.getValidPositions();
+		if (selected.isPathCard() && !snapshot.isActivePlayerBlocked()) {
+			PathCard selectedCard = (PathCard) selected;
 			for (int x = minX; x <= maxX; x++)
 				for (int y = minY; y <= maxY; y++) {
 					Position pos = Position.of(x, y);
@@ -149,21 +155,21 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 		}
 		
 		// rockfall -> highlight all cards except start and end
-		if (GameController.getSelectedCard().isRockfall()) for (Position pos : cardPositions) {
-			PathCard card = GameController.getCardAt(pos);
+		if (selected.isRockfall()) for (Position pos : cardPositions) {
+			PathCard card = board.get(pos);
 			if (card instanceof StartCard || card instanceof GoalCard) continue;
 			g.drawRoundRect(sx(pos.x()), sy(pos.y()), cardWidth, cardHeight, arcSize, arcSize);
 			if (mouseX == pos.x() && mouseY == pos.y())
-				drawCard(g, GameController.getSelectedCard(), pos, 0.7f);
+				drawCard(g, selected, pos, 0.7f);
 		}
 		
 		// map -> highlight not turned goal cards
-		if (GameController.getSelectedCard().isMap()) for (Position pos : cardPositions) {
-			PathCard card = GameController.getCardAt(pos);
+		if (selected.isMap()) for (Position pos : cardPositions) {
+			PathCard card = board.get(pos);
 			if (!card.isGoalCard() || !((GoalCard) card).isCovered()) continue;
 			g.drawRoundRect(sx(pos.x()), sy(pos.y()), cardWidth, cardHeight, arcSize, arcSize);
 			if (mouseX == pos.x() && mouseY == pos.y())
-				drawCard(g, GameController.getSelectedCard(), pos, 0.6f);
+				drawCard(g, selected, pos, 0.6f);
 		}
 		
 	}
@@ -177,32 +183,33 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 	
 	@Override
 	public void mouseClicked(MouseEvent e) {
-		if (GameController.getActivePlayer() != null && GameController.getActivePlayer().isComputer()) return;
-		if (GameController.getSelectedCard() == null) return;
+		GameSnapshot snapshot = GameController.getSnapshot();
+		Player activePlayer = snapshot.getActivePlayer();
+		Card selectedCard = snapshot.getSelectedCard();
+		if (activePlayer != null && activePlayer.isComputer()) return;
+		if (selectedCard == null) return;
 		
 		switch (e.getButton()) {
 			// left click
 			case MouseEvent.BUTTON1:
 				// place path card
-				boolean hasBrokenTool = GameController.getActivePlayer() == null || GameController.getActivePlayer().hasBrokenTool();
-				if (GameController.getSelectedCard().isPathCard() && !hasBrokenTool) {
-					PathCard selectedCard = (PathCard) GameController.getSelectedCard();
-					if (GameController.canCardBePlacedAt(mouseX, mouseY, selectedCard))
-						GameController.placeSelectedCardAt(GameController.getActivePlayer(), mouseX, mouseY);
+				if (selectedCard.isPathCard() && !snapshot.isActivePlayerBlocked()) {
+					if (snapshot.getValidPositions().contains(Position.of(mouseX, mouseY)))
+						GameController.placeSelectedCardAt(activePlayer, mouseX, mouseY);
 				}
 				
 				// destroy with rockfall
-				else if (GameController.getSelectedCard().isRockfall()) {
-					PathCard card = GameController.getCardAt(Position.of(mouseX, mouseY));
+				else if (selectedCard.isRockfall()) {
+					PathCard card = snapshot.getCardAt(Position.of(mouseX, mouseY));
 					if (card != null && !card.isStartCard() && !card.isGoalCard())
-						GameController.destroyCardWithSelectedCardAt(GameController.getActivePlayer(), mouseX, mouseY);
+						GameController.destroyCardWithSelectedCardAt(activePlayer, mouseX, mouseY);
 				}
 				
 				// look at goal card with map
-				else if (GameController.getSelectedCard().isMap()) {
-					PathCard card = GameController.getCardAt(Position.of(mouseX, mouseY));
+				else if (selectedCard.isMap()) {
+					PathCard card = snapshot.getCardAt(Position.of(mouseX, mouseY));
 					if (card != null && card.isGoalCard())
-						GameController.lookAtGoalCardWithSelectedCard(GameController.getActivePlayer(), (GoalCard) card);
+						GameController.lookAtGoalCardWithSelectedCard(activePlayer, (GoalCard) card);
 				}
 				
 				break;
@@ -210,10 +217,8 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 			// right click
 			case MouseEvent.BUTTON3:
 				// rotate path card
-				if (GameController.getSelectedCard().isPathCard()) {
-					((PathCard) GameController.getSelectedCard()).rotate();
-					GameController.selectCard(GameController.getSelectedCard());
-				}
+				if (selectedCard.isPathCard())
+					GameController.rotateCard((PathCard) selectedCard);
 				break;
 			
 			default:
@@ -240,11 +245,12 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 	}
 	
 	private String generateToolTipText() {
-		Card mouseCard = GameController.getCardAt(Position.of(mouseX, mouseY));
-		Card selectedCard = GameController.getSelectedCard();
+		GameSnapshot snapshot = GameController.getSnapshot();
+		Card mouseCard = snapshot.getCardAt(Position.of(mouseX, mouseY));
+		Card selectedCard = snapshot.getSelectedCard();
 		if (selectedCard != null) {
 			if (selectedCard.isPathCard())
-				if (GameController.getActivePlayer() != null && GameController.getActivePlayer().hasBrokenTool())
+				if (snapshot.getActivePlayer() != null && snapshot.isActivePlayerBlocked())
 					return "Du bist gesperrt und kannst keine Wegekarte legen.";
 			
 			if (selectedCard.isMap())
@@ -284,20 +290,4 @@ public class GameboardPanel extends JPanel implements MouseListener, MouseMotion
 	@Override
 	public void mouseDragged(MouseEvent e) {}
 	
-	
-	private void updateValidPositions() {
-		// clear positions of last card
-		validPositions.clear();
-		
-		// skip if selection is not a path card
-		if (GameController.getSelectedCard() == null || !GameController.getSelectedCard().isPathCard()) return;
-		
-		// collect all valid positions
-		PathCard selectedCard = (PathCard) GameController.getSelectedCard();
-		for (int x = minX; x <= maxX; x++)
-			for (int y = minY; y <= maxY; y++)
-				if (GameController.canCardBePlacedAt(x, y, selectedCard))
-					validPositions.add(Position.of(x, y));
-	}
-	
 }
@@ -13,7 +13,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import fop.controller.GameController;
+import fop.controller.GameSnapshot;
+import fop.controller.TurnDelta.Change;
 import fop.io.CardImageReader;
+import fop.model.GameRandom;
 import fop.model.cards.Card;
 import javax.swing.JPanel;
 
@@ -38,6 +41,9 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 	// max amount of cards of the draw deck
 	private int maxCards = 0;
 	
+	// random variations of the discard pile, independent of the game
+	private final GameRandom random = GameController.getSession().createViewRandom();
+	
 	// mouse hovering
 	private boolean mouseHoveringDrawDeck;
 	private boolean mouseHoveringDiscardPile;
@@ -53,8 +59,10 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 		setBackground(new Color(222, 222, 222));
 		addMouseListener(this);
 		addMouseMotionListener(this);
-		GameController.addPropertyChangeListener(GameController.NEXT_PLAYER, evt -> repaint());
-		GameController.addPropertyChangeListener(GameController.SELECT_CARD, evt -> repaint());
+		GameController.addTurnListener(delta -> {
+			if (delta.containsAny(Change.ACTIVE_PLAYER, Change.SELECTED_CARD, Change.PILES))
+				repaint();
+		});
 	}
 	
 	@Override
@@ -66,8 +74,11 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 		g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 		g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
 		
+		// read the game state only once
+		GameSnapshot snapshot = GameController.getSnapshot();
+		
 		// update max cards
-		maxCards = Math.max(maxCards, GameController.getDrawDeckSize());
+		maxCards = Math.max(maxCards, snapshot.getDrawDeckSize());
 		
 		// calculate card dimension
 		/*
@@ -110,7 +121,7 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 		double effect3Dy = cardHeight * EFFECT_3D_Y;
 		int x0 = (int) ((getWidth() - cardWidth - effect3Dx * (maxCards - 1)) / 2);
 		int y0 = (int) (getHeight() / 4 - (cardHeight - effect3Dy * (maxCards - 1)) / 2);
-		int drawDeckSize = GameController.getDrawDeckSize();
+		int drawDeckSize = snapshot.getDrawDeckSize();
 		drawDeckPosition = new Rectangle(x0, (int) (y0 - effect3Dy * drawDeckSize),
 				(int) (cardWidth + effect3Dx * drawDeckSize), (int) (cardHeight + effect3Dy * drawDeckSize));
 		for (int i = 0; i < drawDeckSize; i += EVERY_NTH_DRAW_DECK_CARD)
@@ -119,7 +130,7 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 		
 		// == discard pile == //
 		
-		List<Card> discardPile = GameController.getDiscardPile();
+		List<Card> discardPile = snapshot.getDiscardPile();
 		
 		// remove unused rotations and translations
 		while (rotationList.size() > discardPile.size())
@@ -133,14 +144,14 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 		while (rotationList.size() < discardPile.size()) {
 			double rotation;
 			do
-				rotation = (Math.random() - 0.5) * MAX_ROT;
+				rotation = (random.nextDouble() - 0.5) * MAX_ROT;
 			while (!rotationList.isEmpty() && Math.abs(rotationList.get(rotationList.size() - 1) - rotation) < MAX_ROT / 4);
 			rotationList.add(rotation);
 		}
 		while (translationListX.size() < discardPile.size())
-			translationListX.add((Math.random() - 0.5) * MAX_TRANS);
+			translationListX.add((random.nextDouble() - 0.5) * MAX_TRANS);
 		while (translationListY.size() < discardPile.size())
-			translationListY.add((Math.random() - 0.5) * MAX_TRANS);
+			translationListY.add((random.nextDouble() - 0.5) * MAX_TRANS);
 		
 		// draw discard pile
 		int discardPileX = getWidth() / 2;
@@ -162,7 +173,7 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 		}
 		
 		// highlight discard pile
-		if (GameController.getSelectedCard() != null) {
+		if (snapshot.getSelectedCard() != null) {
 			int strokeWidth = Math.max(cardWidth / 20, 2);
 			float[] strokeDash = {Math.max(cardWidth / 10f, 5f), Math.max(cardWidth / 15f, 3f)};
 			float strokeOffset = strokeDash[0] + strokeDash[1] * 1.5f;
@@ -225,7 +236,7 @@ public class PilePanel extends JPanel implements MouseListener, MouseMotionListe
 	
 	private String generateToolTipText() {
 		if (mouseHoveringDrawDeck) {
-			if (GameController.getDrawDeckSize() == 0) return "<html>Der Nachziehstapel ist leer.<br>Er wird nicht wieder aufgefüllt.</html>";
+			if (GameController.getSnapshot().getDrawDeckSize() == 0) return "<html>Der Nachziehstapel ist leer.<br>Er wird nicht wieder aufgefüllt.</html>";
 			return "<html>Der Nachziehstapel.<br>Am Ende jedes Zuges wird eine Karte nachgezogen.</html>";
 		}
 		
@@ -11,6 +11,9 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import fop.controller.GameController;
+import fop.controller.GameSnapshot;
+import fop.controller.GameSnapshot.PlayerState;
+import fop.controller.TurnDelta.Change;
 import fop.io.CardImageReader;
 import fop.io.IconReader;
 import fop.model.Player;
@@ -55,16 +58,16 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		addMouseListener(this);
 		addMouseMotionListener(this);
 		addMouseWheelListener(this);
-		GameController.addPropertyChangeListener(GameController.NEXT_PLAYER, evt -> {
-			if (player != GameController.getActivePlayer()) {
+		GameController.addTurnListener(delta -> {
+			if (delta.containsAny(Change.ACTIVE_PLAYER) && player != delta.getActivePlayer()) {
 				scrollX = 0;
 				mouseHandCard = null;
 				mouseToolTypeCard = null;
 				mouseHoveringName = false;
 			}
-			repaint();
+			if (delta.containsAny(Change.ACTIVE_PLAYER, Change.SELECTED_CARD, Change.PLAYERS))
+				repaint();
 		});
-		GameController.addPropertyChangeListener(GameController.SELECT_CARD, evt -> repaint());
 	}
 	
 	@Override
@@ -87,8 +90,14 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		scrollX = getWidth() < minimumWidth() ? Math.max(getWidth() - minimumWidth(), Math.min(scrollX, 0)) : 0;
 		
 		
+		// read the game state only once
+		GameSnapshot snapshot = GameController.getSnapshot();
+		PlayerState state = snapshot.getPlayerState(player);
+		boolean active = player == snapshot.getActivePlayer();
+		if (state == null) return;
+		
 		//== draw info ==//
-		Card selectedCard = GameController.getSelectedCard();
+		Card selectedCard = snapshot.getSelectedCard();
 		infoWidth = 0;
 		infoHeight = 0;
 		padding = getHeight() / 20;
@@ -98,7 +107,7 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		Font nameFont = g.getFont().deriveFont(Math.max(getHeight() / 13f, 1f)).deriveFont(Font.BOLD);
 		Font scoreFont = g.getFont().deriveFont(Math.max(getHeight() / 15f, 1f)).deriveFont(Font.PLAIN);
 		String name = player.getName();
-		String score = String.format("(%d)", player.getScore());
+		String score = String.format("(%d)", state.getScore());
 		int nameWidth = g.getFontMetrics(nameFont).stringWidth(name);
 		int nameHeight = g.getFontMetrics(nameFont).getHeight();
 		int nameAscent = g.getFontMetrics(nameFont).getAscent();
@@ -113,8 +122,8 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		g.drawString(score, padding + 4 + nameWidth + 4, padding + Math.max(nameAscent, scoreAscent) - 1);
 		
 		// highlight if a tool of the player can be broken
-		if (selectedCard != null && selectedCard.isBrokenTool() && player != GameController.getActivePlayer()
-				&& player.canToolBeBroken((BrokenToolCard) selectedCard)) {
+		if (selectedCard != null && selectedCard.isBrokenTool() && !active
+				&& state.canToolBeBroken((BrokenToolCard) selectedCard)) {
 			g.setStroke(new BasicStroke(strokeWidth, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 1f,
 					new float[] {strokeDash[0] / 1.5f, strokeDash[1] / 1.5f}, strokeWidth));
 			g.setColor(Color.RED);
@@ -130,15 +139,15 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		// draw broken tools //
 		brokenToolPositions.clear();
 		for (ToolType type : ToolType.values())
-			if (player.hasBrokenTool(type)) {
-				BrokenToolCard brokenToolCard = player.getBrokenTool(type);
+			if (state.getBrokenTool(type) != null) {
+				BrokenToolCard brokenToolCard = state.getBrokenTool(type);
 				BufferedImage brokenToolIcon = IconReader.readIcon(String.format("broken_%s", type.name().toLowerCase()));
 				Ellipse2D circle = new Ellipse2D.Double(padding + infoWidth + padding, padding, infoHeight, infoHeight);
 				g.drawImage(brokenToolIcon, (int) circle.getX(), (int) circle.getY(), (int) circle.getWidth(), (int) circle.getHeight(), null);
 				
 				// highlight if tool can be fixed by using the selected card
 				if (selectedCard != null && selectedCard.isFixedTool()
-						&& player.canBrokenToolBeFixed(brokenToolCard, (FixedToolCard) selectedCard)) {
+						&& state.canBrokenToolBeFixed(brokenToolCard, (FixedToolCard) selectedCard)) {
 					g.setStroke(new BasicStroke(strokeWidth, BasicStroke.CAP_BUTT, BasicStroke.JOIN_MITER, 1f,
 							new float[] {(float) ((circle.getWidth() + padding / 2) * Math.PI / 16f)}, strokeWidth));
 					g.setColor(Color.RED);
@@ -162,7 +171,7 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		int arcSize = cardHeight / 10;
 		
 		// draw role //
-		String roleImageName = player == GameController.getActivePlayer() ? String.format("role_%s", player.getRole().name().toLowerCase()) : "role";
+		String roleImageName = active ? String.format("role_%s", state.getRole().name().toLowerCase()) : "role";
 		BufferedImage roleImage = CardImageReader.readImage(roleImageName);
 		rolePosition = new Rectangle(scrollX + padding, padding + infoHeight + padding * 3 / 2, cardWidth, cardHeight);
 		g.drawImage(roleImage, rolePosition.x, rolePosition.y, rolePosition.width, rolePosition.height, null);
@@ -170,7 +179,7 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		cardsHeight += cardHeight;
 		
 		// draw line //
-		if (player == GameController.getActivePlayer()) {
+		if (active) {
 			g.setColor(getParent().getBackground().darker());
 			g.setStroke(new BasicStroke(1));
 			g.drawLine(scrollX + padding + cardsWidth + padding, padding + infoHeight + padding * 3 / 2 + 4,
@@ -180,10 +189,10 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		
 		// draw hand //
 		cardPositions.clear();
-		if (player == GameController.getActivePlayer()) {
+		if (active) {
 			int x = scrollX + padding + cardsWidth;
 			int y = padding + infoHeight + padding * 3 / 2;
-			for (Card card : player.getAllHandCards()) {
+			for (Card card : state.getHandCards()) {
 				x += padding;
 				boolean moveUp = card == mouseHandCard || card == selectedCard; // move up if selected or hovered
 				Rectangle rect = new Rectangle(x, moveUp ? y - padding : y, cardWidth, cardHeight);
@@ -198,7 +207,7 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 				cardPositions.put(rect, card);
 				x += cardWidth;
 			}
-			cardsWidth += player.getAllHandCards().size() * (padding + cardWidth);
+			cardsWidth += state.getHandCards().size() * (padding + cardWidth);
 		}
 		
 		// debug bounds
@@ -220,11 +229,15 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 	
 	@Override
 	public void mouseClicked(MouseEvent e) {
-		if (GameController.getActivePlayer() != null && GameController.getActivePlayer().isComputer()) return;
+		GameSnapshot snapshot = GameController.getSnapshot();
+		PlayerState state = snapshot.getPlayerState(player);
+		Player activePlayer = snapshot.getActivePlayer();
+		if (activePlayer != null && activePlayer.isComputer()) return;
+		if (state == null) return;
 		switch (e.getButton()) {
 			// left click
 			case MouseEvent.BUTTON1:
-				Card selectedCard = GameController.getSelectedCard();
+				Card selectedCard = snapshot.getSelectedCard();
 				
 				// select hand card
 				if (mouseHandCard != null)
@@ -232,30 +245,26 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 						GameController.selectCard(mouseHandCard);
 					else GameController.selectCard(null);
 				else
-					if (player == GameController.getActivePlayer() && mouseToolTypeCard == null && !mouseHoveringName)
+					if (player == activePlayer && mouseToolTypeCard == null && !mouseHoveringName)
 						GameController.selectCard(null);
 
 				// fix broken tool card
 				if (selectedCard != null && selectedCard.isFixedTool() && mouseToolTypeCard != null)
-					if (player.canBrokenToolBeFixed(mouseToolTypeCard, (FixedToolCard) selectedCard))
-						GameController.fixBrokenToolCardWithSelectedCard(GameController.getActivePlayer(), player, mouseToolTypeCard);
+					if (state.canBrokenToolBeFixed(mouseToolTypeCard, (FixedToolCard) selectedCard))
+						GameController.fixBrokenToolCardWithSelectedCard(activePlayer, player, mouseToolTypeCard);
 				
 				// break tool
 				if (selectedCard != null && selectedCard.isBrokenTool() && mouseHoveringName)
-					if (player != GameController.getActivePlayer() && player.canToolBeBroken((BrokenToolCard) selectedCard))
-						GameController.breakToolWithSelectedCard(GameController.getActivePlayer(), player);
+					if (player != activePlayer && state.canToolBeBroken((BrokenToolCard) selectedCard))
+						GameController.breakToolWithSelectedCard(activePlayer, player);
 				
 				break;
 			
 			// right click
 			case MouseEvent.BUTTON3:
 				// rotate path card
-				if (mouseHandCard != null && mouseHandCard.isPathCard()) {
-					((PathCard) mouseHandCard).rotate();
-					// update selected card if mouse card was the selected card
-					if (mouseHandCard == GameController.getSelectedCard())
-						GameController.selectCard(mouseHandCard);
-				}
+				if (mouseHandCard != null && mouseHandCard.isPathCard())
+					GameController.rotateCard((PathCard) mouseHandCard);
 				break;
 			
 			default:
@@ -293,11 +302,14 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 	}
 	
 	private String generateToolTipText() {
-		if (player == GameController.getActivePlayer()) {
+		GameSnapshot snapshot = GameController.getSnapshot();
+		PlayerState state = snapshot.getPlayerState(player);
+		if (state == null) return null;
+		if (player == snapshot.getActivePlayer()) {
 			
 			if (mouseHandCard != null) {
 				if (mouseHandCard.isPathCard()) {
-					if (player.hasBrokenTool()) return "Du bist gesperrt und kannst keine Wegekarte legen.";
+					if (state.hasBrokenTool()) return "Du bist gesperrt und kannst keine Wegekarte legen.";
 					return "<html>Eine Wegekarte.<br>Mit einem Rechtsklick kann sie gedreht werden.</html>";
 				}
 				if (mouseHandCard.isMap()) return "<html>Mit der Schatzkarte kannst du schauen,<br>was sich unter einer Zielkarte verbirgt.</html>";
@@ -307,14 +319,14 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 			}
 			
 			if (mouseToolTypeCard != null) {
-				Card selectedCard = GameController.getSelectedCard();
+				Card selectedCard = snapshot.getSelectedCard();
 				if (selectedCard != null && selectedCard.isFixedTool())
-					if (player.canBrokenToolBeFixed(mouseToolTypeCard, (FixedToolCard) selectedCard))
+					if (state.canBrokenToolBeFixed(mouseToolTypeCard, (FixedToolCard) selectedCard))
 						return "Hiermit kannst du das Werkzeug wieder reparieren.";
 				return "Du bist gesperrt und kannst keine Wegekarte legen.";
 			}
 			
-			if (mouseHoveringRole) switch (player.getRole()) {
+			if (mouseHoveringRole) switch (state.getRole()) {
 				case GOLD_MINER:
 					return "<html>Du bist Goldsucher.<br>Dein Ziel ist es, schnellstmöglich zum Goldschatz zu gelangen.</html>";
 				case SABOTEUR:
@@ -326,17 +338,17 @@ public class PlayerPanel extends JPanel implements MouseListener, MouseMotionLis
 		} else {
 			
 			if (mouseToolTypeCard != null) {
-				Card selectedCard = GameController.getSelectedCard();
+				Card selectedCard = snapshot.getSelectedCard();
 				if (selectedCard != null && selectedCard.isFixedTool())
-					if (player.canBrokenToolBeFixed(mouseToolTypeCard, (FixedToolCard) selectedCard))
+					if (state.canBrokenToolBeFixed(mouseToolTypeCard, (FixedToolCard) selectedCard))
 						return String.format("Hiermit kannst du das Werkzeug von %s wieder reparieren.", player.getName());
 				return String.format("%s ist gesperrt und kann keine Wegekarte legen.", player.getName());
 			}
 			
 			if (mouseHoveringName) {
-				Card selectedCard = GameController.getSelectedCard();
+				Card selectedCard = snapshot.getSelectedCard();
 				if (selectedCard != null && selectedCard.isBrokenTool())
-					if (player != GameController.getActivePlayer() && player.canToolBeBroken((BrokenToolCard) selectedCard))
+					if (state.canToolBeBroken((BrokenToolCard) selectedCard))
 						return String.format("Hiermit kannst du das Werkzeug von %s zerstören.", player.getName());
 				return null;
 			}
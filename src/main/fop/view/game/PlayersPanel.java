@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import fop.controller.GameController;
+import fop.controller.TurnDelta.Change;
 import fop.model.Player;
 import javax.swing.JPanel;
 
@@ -27,7 +28,10 @@ public class PlayersPanel extends JPanel {
 			playerPanels.add(playerPanel);
 			add(playerPanel);
 		}
-		GameController.addPropertyChangeListener(GameController.NEXT_PLAYER, evt -> repaint());
+		GameController.addTurnListener(delta -> {
+			if (delta.containsAny(Change.ACTIVE_PLAYER, Change.PLAYERS))
+				repaint();
+		});
 	}
 	
 	@Override
@@ -7,13 +7,19 @@ import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import javax.swing.JButton;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
 import javax.swing.ScrollPaneConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.table.AbstractTableModel;
 
 import fop.io.ScoreEntryIO;
@@ -41,7 +47,8 @@ public class HighscoreView extends MenuView {
 		scoreTableConstraints.gridx = 0;
 		scoreTableConstraints.gridy = 0;
 		
-		scoreTableModel tableModel = new scoreTableModel(ScoreEntryIO.loadScoreEntries());
+		scoreTableModel tableModel = new scoreTableModel();
+		tableModel.load();
 		JTable table = new JTable(tableModel);
 		table.setPreferredScrollableViewportSize(new Dimension(500, 70));
 //        table.setFillsViewportHeight(true);
@@ -67,31 +74,102 @@ public class HighscoreView extends MenuView {
 		
 	}
 	
+	/**
+	 * Zeigt die Highscores seitenweise an.<br>
+	 * Nur die Anzahl der Einträge wird beim Öffnen im Hintergrund bestimmt; die Einträge selbst werden
+	 * in Seiten von {@value #PAGE_SIZE} Zeilen erst gelesen, wenn die Tabelle sie anzeigt.
+	 * Auch die Seiten werden im Hintergrund gelesen, da das Lesen auf laufende Schreibvorgänge warten muss;
+	 * bis eine Seite vorliegt, bleiben ihre Zeilen leer.
+	 * Die Datumsangaben werden nur für die angezeigten Zellen formatiert.
+	 */
 	private class scoreTableModel extends AbstractTableModel{
 		
-		private Object[][] data;
+		/** Die Anzahl der Zeilen, die gemeinsam gelesen werden. */
+		private static final int PAGE_SIZE = 100;
 		
-		private final List<ScoreEntry> scoreEntries;
+		/** Die Anzahl der Seiten, die höchstens zwischengespeichert werden. */
+		private static final int MAX_PAGES = 16;
 		
-	    public scoreTableModel(List<ScoreEntry> scoreEntries) {
-	        this.scoreEntries = scoreEntries;
-	        reload();
-	    }
-	    
-	    public void reload() {
-	    	DateTimeFormatter formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM);
-	        data = scoreEntries.stream().map(scoreentry ->{
-	        	return new Object[] {
-	        			scoreentry.getDateTime().format(formatter), 
-	        			scoreentry.getName(), 
-	        			Integer.toString(scoreentry.getScore())};
-	        }).toArray(Object[][]::new);
-	        fireTableDataChanged();
-	    }
+		private final DateTimeFormatter formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM);
+		
+		/** Die zuletzt benutzten Seiten nach ihrer Nummer. */
+		private final Map<Integer, List<ScoreEntry>> pages = new LinkedHashMap<>(MAX_PAGES, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, List<ScoreEntry>> eldest) {
+				return size() > MAX_PAGES;
+			}
+		};
+		
+		/** Die Seiten, die gerade im Hintergrund gelesen werden. */
+		private final Set<Integer> loadingPages = new HashSet<>();
+		
+		private int rowCount = 0;
+		
+		/** Wird bei jedem {@link #load()} erhöht, damit veraltete Seiten verworfen werden. */
+		private int generation = 0;
+		
+		/**
+		 * Bestimmt die Anzahl der Einträge im Hintergrund und zeigt sie danach an.
+		 * Schlägt das fehl, wird der Fehler wie beim Lesen einer Seite ausgegeben.
+		 */
+		public void load() {
+			CompletableFuture.supplyAsync(ScoreEntryIO::getScoreEntryCount)
+				.whenCompleteAsync((count, e) -> {
+					if (e != null) {
+						System.err.printf("The highscores could not be loaded: %s%n", e.getMessage());
+						return;
+					}
+					rowCount = count;
+					generation++;
+					pages.clear();
+					loadingPages.clear();
+					fireTableDataChanged();
+				}, SwingUtilities::invokeLater);
+		}
+		
+		/**
+		 * Gibt den Eintrag der übergebenen Zeile zurück, sofern seine Seite bereits gelesen wurde.
+		 * Andernfalls wird die Seite im Hintergrund gelesen und die Zeilen danach neu angezeigt.
+		 * @param rowIndex die Zeile
+		 * @return der Eintrag; oder null, wenn seine Seite noch nicht vorliegt
+		 */
+		private ScoreEntry getEntry(int rowIndex) {
+			int page = rowIndex / PAGE_SIZE;
+			List<ScoreEntry> entries = pages.get(page);
+			if (entries == null) {
+				loadPage(page);
+				return null;
+			}
+			int index = rowIndex - page * PAGE_SIZE;
+			return index < entries.size() ? entries.get(index) : null;
+		}
+		
+		/**
+		 * Liest die übergebene Seite im Hintergrund, falls sie nicht schon gelesen wird.
+		 * @param page die Nummer der Seite
+		 */
+		private void loadPage(int page) {
+			if (!loadingPages.add(page)) return;
+			int loadGeneration = generation;
+			int from = page * PAGE_SIZE;
+			int to = from + PAGE_SIZE;
+			CompletableFuture.supplyAsync(() -> ScoreEntryIO.loadScoreEntries(from, to))
+				.whenCompleteAsync((entries, e) -> {
+					if (loadGeneration != generation) return;
+					loadingPages.remove(page);
+					if (e != null) {
+						System.err.printf("The highscores could not be loaded: %s%n", e.getMessage());
+						return;
+					}
+					pages.put(page, entries);
+					int lastRow = Math.min(to, rowCount) - 1;
+					if (from <= lastRow) fireTableRowsUpdated(from, lastRow);
+				}, SwingUtilities::invokeLater);
+		}
 
 		@Override
 		public int getRowCount() {
-			return data.length;
+			return rowCount;
 		}
 
 		@Override
@@ -101,7 +179,14 @@ public class HighscoreView extends MenuView {
 
 		@Override
 		public Object getValueAt(int rowIndex, int columnIndex) {
-			return data[rowIndex][columnIndex];
+			ScoreEntry scoreentry = getEntry(rowIndex);
+			if (scoreentry == null) return null;
+			switch (columnIndex) {
+				case 0: return scoreentry.getDateTime().format(formatter);
+				case 1: return scoreentry.getName();
+				case 2: return Integer.toString(scoreentry.getScore());
+				default: throw new IndexOutOfBoundsException(columnIndex);
+			}
 		}
 		
 		@Override